@@ -0,0 +1,132 @@
+package edu.eci.arsw.client_spring_rest.benchmark;
+
+import edu.eci.arsw.client_spring_rest.dto.ApiResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentCreateRequest;
+import edu.eci.arsw.client_spring_rest.exception.DuplicateEmailException;
+import edu.eci.arsw.client_spring_rest.exception.GlobalExceptionHandler;
+import edu.eci.arsw.client_spring_rest.exception.StudentNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the error paths of {@link GlobalExceptionHandler}: building the error response
+ * for an already thrown exception, and the full cost of a request that fails, from creating
+ * the exception (which fills in its stack trace) to the response.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ValidatorFactory validatorFactory;
+    private StudentNotFoundException notFound;
+    private DuplicateEmailException duplicateEmail;
+    private MethodArgumentNotValidException invalidBody;
+    private ConstraintViolationException invalidParameters;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+
+        // Every field of the request is invalid
+        StudentCreateRequest request = new StudentCreateRequest("", "not-an-email", LocalDate.now().plusDays(1), "");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, "studentCreateRequest");
+        new SpringValidatorAdapter(validatorFactory.getValidator()).validate(request, bindingResult);
+        MethodParameter parameter = new MethodParameter(
+            ExceptionHandlerBenchmark.class.getDeclaredMethod("createStudent", StudentCreateRequest.class), 0);
+        invalidBody = new MethodArgumentNotValidException(parameter, bindingResult);
+
+        Set<ConstraintViolation<StudentCreateRequest>> violations = validatorFactory.getValidator().validate(request);
+        invalidParameters = new ConstraintViolationException(violations);
+
+        notFound = new StudentNotFoundException("Student not found with id: 64b7f0c2a1e4d3b2c1a09f8e");
+        duplicateEmail = new DuplicateEmailException("Student with email ada@example.com already exists");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    /**
+     * Stands in for the controller method whose @Valid body failed to bind.
+     */
+    void createStudent(StudentCreateRequest request) {
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> handleNotFound() {
+        return handler.handleStudentNotFoundException(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> handleDuplicateEmail() {
+        return handler.handleDuplicateEmailException(duplicateEmail);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleInvalidBody() {
+        return handler.handleValidationExceptions(invalidBody);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleInvalidParameters() {
+        return handler.handleConstraintViolationException(invalidParameters);
+    }
+
+    /**
+     * A lookup that misses: the service throws, the handler answers 404.
+     */
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> throwAndHandleNotFound() {
+        try {
+            throw new StudentNotFoundException("Student not found with id: 64b7f0c2a1e4d3b2c1a09f8e");
+        } catch (StudentNotFoundException e) {
+            return handler.handleStudentNotFoundException(e);
+        }
+    }
+
+    /**
+     * An invalid argument, such as a malformed cursor, answered with 400.
+     */
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> throwAndHandleIllegalArgument() {
+        try {
+            throw new IllegalArgumentException("Invalid cursor");
+        } catch (IllegalArgumentException e) {
+            return handler.handleIllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package edu.eci.arsw.client_spring_rest.benchmark;
+
+import edu.eci.arsw.client_spring_rest.config.MongoBulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the platform thread default (a Tomcat-sized pool of 200 threads) with virtual
+ * threads for a burst of requests that each make one blocking database call behind the
+ * {@link MongoBulkhead}. The database call is simulated with a sleep, which unmounts a
+ * virtual thread the same way a blocking socket read does.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionModelBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    @Param({"1000", "5000"})
+    private int burst;
+
+    @Param({"2"})
+    private int dbLatencyMillis;
+
+    @Param({"80", "400"})
+    private int bulkheadPermits;
+
+    private Executor requestExecutor;
+    private ExecutorService platformPool;
+    private MongoBulkhead bulkhead;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("platform".equals(executor)) {
+            platformPool = Executors.newFixedThreadPool(PLATFORM_THREADS);
+            requestExecutor = platformPool;
+        } else {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("bench-vt-");
+            virtualExecutor.setVirtualThreads(true);
+            requestExecutor = virtualExecutor;
+        }
+        bulkhead = new MongoBulkhead(new SimpleMeterRegistry(), bulkheadPermits, Duration.ofMinutes(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Time to serve a whole burst; requests per second is {@code burst / time}.
+     */
+    @Benchmark
+    public void serveBurst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(burst);
+        for (int i = 0; i < burst; i++) {
+            requestExecutor.execute(() -> {
+                try {
+                    bulkhead.acquire();
+                    try {
+                        Thread.sleep(dbLatencyMillis);
+                    } finally {
+                        bulkhead.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,87 @@
+package edu.eci.arsw.client_spring_rest.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import edu.eci.arsw.client_spring_rest.dto.ApiResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes one page of a list endpoint, {@code ApiResponse<List<StudentResponse>>}, with
+ * the ObjectMapper settings of application.properties (ISO dates, indented output) and
+ * with compact output, to price the {@code spring.jackson.serialization.indent-output} switch.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private ObjectWriter indentedWriter;
+    private ObjectWriter compactWriter;
+    private ApiResponse<List<StudentResponse>> page;
+
+    @Setup
+    public void setUp() {
+        // Same modules and features Spring Boot applies from application.properties
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        indentedWriter = objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT);
+        compactWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+        List<StudentResponse> students = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            students.add(new StudentResponse(
+                new ObjectId().toHexString(),
+                "Student " + i,
+                "student" + i + "@example.com",
+                LocalDate.of(2000, 1, 1).plusDays(i),
+                "Systems Engineering",
+                now,
+                now,
+                1L
+            ));
+        }
+        page = ApiResponse.success(students, "Students retrieved successfully");
+    }
+
+    @Benchmark
+    public byte[] indentedOutput() throws JsonProcessingException {
+        return indentedWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] compactOutput() throws JsonProcessingException {
+        return compactWriter.writeValueAsBytes(page);
+    }
+}
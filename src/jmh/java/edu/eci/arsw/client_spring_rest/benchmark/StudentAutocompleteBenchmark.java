@@ -0,0 +1,78 @@
+package edu.eci.arsw.client_spring_rest.benchmark;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentSuggestion;
+import edu.eci.arsw.client_spring_rest.service.StudentChangeEvent;
+import edu.eci.arsw.client_spring_rest.service.StudentAutocompleteIndex;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of one autocomplete lookup over a large number of students with heavily repeated
+ * name parts, from a single typed letter to a full surname and an email prefix.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StudentAutocompleteBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "Ana", "Andrés", "Camila", "Carlos", "Daniela", "David", "Juan", "Julián", "Laura", "Luis",
+        "María", "Mariana", "Mateo", "Nicolás", "Paula", "Santiago", "Sofía", "Valentina", "Ada", "Grace"
+    };
+    private static final String[] LAST_NAMES = {
+        "Álvarez", "Castro", "Díaz", "Gómez", "González", "Hernández", "López", "Martínez", "Moreno", "Muñoz",
+        "Pérez", "Ramírez", "Rodríguez", "Rojas", "Sánchez", "Torres", "Vargas", "Lovelace", "Hopper", "Turing"
+    };
+
+    @Param({"1000000"})
+    private int students;
+
+    @Param({"a", "mar", "lovelace", "mariana rojas", "user12345"})
+    private String prefix;
+
+    private StudentAutocompleteIndex index;
+
+    @Setup
+    public void setUp() {
+        // Enabled, but never built from the store: names are fed through change events
+        index = new StudentAutocompleteIndex(Stream::empty, true, 50);
+        index.build();
+
+        Random random = new Random(42);
+        for (int i = 0; i < students; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String id = new ObjectId().toHexString();
+            StudentResponse student = new StudentResponse(id, name, "user" + i + "@example.com", null, null, null, null, null);
+            index.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.CREATED, id, student));
+        }
+    }
+
+    @Benchmark
+    public List<StudentSuggestion> lookup() {
+        return index.search(prefix, 10);
+    }
+}
@@ -0,0 +1,78 @@
+package edu.eci.arsw.client_spring_rest.benchmark;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.service.StudentChangeEvent;
+import edu.eci.arsw.client_spring_rest.service.StudentNameIndex;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Latency of one page of ranked name search on the trigram index over a large number of
+ * students with realistic, heavily repeated name parts. Queries range from a rare full
+ * surname to a common three-letter fragment and a two-letter query, too short for trigrams.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StudentNameSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "Ana", "Andrés", "Camila", "Carlos", "Daniela", "David", "Juan", "Julián", "Laura", "Luis",
+        "María", "Mariana", "Mateo", "Nicolás", "Paula", "Santiago", "Sofía", "Valentina", "Ada", "Grace"
+    };
+    private static final String[] LAST_NAMES = {
+        "Álvarez", "Castro", "Díaz", "Gómez", "González", "Hernández", "López", "Martínez", "Moreno", "Muñoz",
+        "Pérez", "Ramírez", "Rodríguez", "Rojas", "Sánchez", "Torres", "Vargas", "Lovelace", "Hopper", "Turing"
+    };
+
+    @Param({"1000000"})
+    private int students;
+
+    @Param({"lovelace", "gonzalez", "ana", "ez", "mariana rojas"})
+    private String query;
+
+    private StudentNameIndex index;
+
+    @Setup
+    public void setUp() {
+        // Enabled, but never built from the store: names are fed through change events
+        index = new StudentNameIndex(Stream::empty, true);
+        index.build();
+
+        Random random = new Random(42);
+        for (int i = 0; i < students; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String id = new ObjectId().toHexString();
+            StudentResponse student = new StudentResponse(id, name, null, null, null, null, null, null);
+            index.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.CREATED, id, student));
+        }
+    }
+
+    @Benchmark
+    public List<String> firstPage() {
+        return index.search(query, null, null, 51);
+    }
+}
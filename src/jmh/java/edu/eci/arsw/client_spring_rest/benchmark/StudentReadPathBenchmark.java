@@ -0,0 +1,109 @@
+package edu.eci.arsw.client_spring_rest.benchmark;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import edu.eci.arsw.client_spring_rest.repository.StudentResponseMapper;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the entity read path (MappingMongoConverter into Student, then a copy into
+ * StudentResponse) with the projected read path (raw document straight into StudentResponse)
+ * for one page of a list endpoint. Run with the gc profiler to see allocation per page.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentReadPathBenchmark {
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private MappingMongoConverter converter;
+    private StudentResponseMapper responseMapper;
+    private List<Document> entityDocuments;
+    private List<Document> projectedDocuments;
+
+    @Setup
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(Collections.emptyList());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        responseMapper = new StudentResponseMapper(converter.getConversionService());
+
+        entityDocuments = new ArrayList<>(pageSize);
+        projectedDocuments = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Document document = new Document("_id", new ObjectId())
+                .append("name", "Student " + i)
+                .append("email", "student" + i + "@example.com")
+                .append("birth_date", new Date(946684800000L + i * 86_400_000L))
+                .append("program", "Systems Engineering")
+                .append("created_at", new Date())
+                .append("updated_at", new Date());
+
+            projectedDocuments.add(document);
+            // Full entity reads also return the type hint written by MappingMongoConverter
+            entityDocuments.add(new Document(document).append("_class", Student.class.getName()));
+        }
+    }
+
+    @Benchmark
+    public List<StudentResponse> entityReadPath() {
+        List<StudentResponse> page = new ArrayList<>(pageSize);
+        for (Document document : entityDocuments) {
+            Student student = converter.read(Student.class, document);
+            page.add(new StudentResponse(
+                student.getId(),
+                student.getName(),
+                student.getEmail(),
+                student.getBirthDate(),
+                student.getProgram(),
+                student.getCreatedAt(),
+                student.getUpdatedAt()
+            ));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<StudentResponse> projectedReadPath() {
+        List<StudentResponse> page = new ArrayList<>(pageSize);
+        for (Document document : projectedDocuments) {
+            page.add(responseMapper.toResponse(document));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,91 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-student work of the service layer: converting entities into
+ * StudentResponse (one page of a list endpoint) and building Student entities, whose
+ * constructors and setters each read the clock. Lives in the service package because
+ * {@link StudentService#convertToResponse(Student)} is package-private.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentServiceBenchmark {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(2000, 1, 1);
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private List<Student> students;
+
+    @Setup
+    public void setUp() {
+        students = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Student student = new Student("Student " + i, "student" + i + "@example.com",
+                BIRTH_DATE.plusDays(i), "Systems Engineering");
+            student.setId(new ObjectId().toHexString());
+            student.setVersion(1L);
+            students.add(student);
+        }
+    }
+
+    /**
+     * Convert one page of entities into responses.
+     */
+    @Benchmark
+    public List<StudentResponse> convertToResponse() {
+        List<StudentResponse> page = new ArrayList<>(pageSize);
+        for (Student student : students) {
+            page.add(StudentService.convertToResponse(student));
+        }
+        return page;
+    }
+
+    /**
+     * Build a student the way createStudent does: one clock read in the constructor.
+     */
+    @Benchmark
+    public Student constructStudent() {
+        return new Student("Ada Lovelace", "ada@example.com", BIRTH_DATE, "Systems Engineering");
+    }
+
+    /**
+     * Build a student through its setters: one clock read in the constructor and one per setter.
+     */
+    @Benchmark
+    public Student constructStudentWithSetters() {
+        Student student = new Student();
+        student.setName("Ada Lovelace");
+        student.setEmail("ada@example.com");
+        student.setBirthDate(BIRTH_DATE);
+        student.setProgram("Systems Engineering");
+        return student;
+    }
+}
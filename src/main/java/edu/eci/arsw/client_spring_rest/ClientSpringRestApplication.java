@@ -3,17 +3,16 @@ package edu.eci.arsw.client_spring_rest;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 /**
  * Main Spring Boot application class.
  * Configures the application and loads environment variables.
+ * MongoDB repositories are enabled by auto-configuration, which the "in-memory" profile turns off.
  * 
  * @author Generated
  * @version 1.0
  */
 @SpringBootApplication
-@EnableMongoRepositories
 public class ClientSpringRestApplication {
 
 	public static void main(String[] args) {
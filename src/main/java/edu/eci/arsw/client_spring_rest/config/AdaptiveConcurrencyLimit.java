@@ -0,0 +1,143 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive limit on concurrent requests, learned from their latency in the style of
+ * Netflix's Gradient2 limit.
+ *
+ * <p>A long moving average of the latency tracks the latency the service has when it is not
+ * queueing. After every window of samples the average latency of the window is compared
+ * to it: while they match the limit grows by a small queue allowance, and as the window
+ * latency rises above the long average times the tolerance the limit shrinks in
+ * proportion, by at most half per window. Changes are smoothed, and the limit only grows
+ * while the traffic actually uses half of it, so an idle service does not drift to the
+ * maximum.</p>
+ *
+ * <p>Metrics, tagged by group: {@code students.concurrency.limit} (current limit),
+ * {@code students.concurrency.in-flight} and {@code students.concurrency.rejected}.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final int WINDOW_SAMPLES = 10;
+    private static final int LONG_WINDOW_SAMPLES = 600;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    // Sample window and long latency average, guarded by this
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private double longRtt;
+    private int longSamples;
+
+    public AdaptiveConcurrencyLimit(MeterRegistry meterRegistry, String group,
+                                    int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+
+        Gauge.builder("students.concurrency.limit", this, AdaptiveConcurrencyLimit::getLimit)
+            .description("Current adaptive limit on concurrent requests")
+            .tag("group", group)
+            .register(meterRegistry);
+        Gauge.builder("students.concurrency.in-flight", inFlight, AtomicInteger::get)
+            .description("Requests currently in flight under the adaptive limit")
+            .tag("group", group)
+            .register(meterRegistry);
+        this.rejected = Counter.builder("students.concurrency.rejected")
+            .description("Requests rejected by the adaptive concurrency limit")
+            .tag("group", group)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Take a slot for a request if the limit allows it.
+     *
+     * @return the number of requests in flight including this one, or -1 if rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Release a slot taken with {@link #tryAcquire()} and learn from the request latency.
+     *
+     * @param rttNanos how long the request took
+     * @param inFlightAtStart the value returned by {@link #tryAcquire()}
+     */
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        onSample(rttNanos, inFlightAtStart);
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        if (++windowSamples < WINDOW_SAMPLES) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        // Plain average while warming up, then an exponential moving average
+        if (longSamples < WINDOW_SAMPLES) {
+            longRtt = (longRtt * longSamples + shortRtt) / ++longSamples;
+        } else {
+            longRtt += (shortRtt - longRtt) * 2 / (LONG_WINDOW_SAMPLES / WINDOW_SAMPLES + 1);
+        }
+        // After a sustained slowdown recovers, let the long average come back down quickly
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        if (maxInFlight < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        double next = current * gradient + Math.sqrt(current);
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    /**
+     * Get the current limit.
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Get the number of requests in flight.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,41 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.eci.arsw.client_spring_rest.service.StudentService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cache configuration.
+ * Enables Spring Boot's Caffeine cache manager; the caches, their size and TTL are
+ * configured with the spring.cache.* properties and their statistics are published
+ * as cache.* metrics through Actuator.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Register the program statistics cache, which needs a much shorter TTL than the
+     * student lookup caches.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> programStatsCacheCustomizer(
+            @Value("${students.stats.ttl:30s}") Duration ttl) {
+        return cacheManager -> cacheManager.registerCustomCache(StudentService.PROGRAM_STATS_CACHE,
+            Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,46 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Registers the {@link ConcurrencyLimitFilter} in front of the servlet student API, with
+ * one adaptive limit for reads and one for writes. The reactive stack does not hold a
+ * thread per request and is not limited.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "students.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            MeterRegistry meterRegistry, ObjectMapper objectMapper,
+            @Value("${students.concurrency-limit.initial-limit:50}") int initialLimit,
+            @Value("${students.concurrency-limit.min-limit:8}") int minLimit,
+            @Value("${students.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${students.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            new AdaptiveConcurrencyLimit(meterRegistry, "reads", initialLimit, minLimit, maxLimit),
+            new AdaptiveConcurrencyLimit(meterRegistry, "writes", initialLimit, minLimit, maxLimit),
+            objectMapper, Math.max(1, retryAfter.toSeconds()));
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/students/*");
+        // Run early, so shed requests cost as little as possible
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
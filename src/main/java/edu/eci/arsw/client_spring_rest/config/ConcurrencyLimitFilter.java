@@ -0,0 +1,115 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.eci.arsw.client_spring_rest.dto.ApiResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Sheds student API requests above an {@link AdaptiveConcurrencyLimit}, so a slow database
+ * answers the excess quickly with 503 Service Unavailable and a Retry-After header instead
+ * of piling requests up on the request threads until they all time out.
+ *
+ * <p>Reads (GET and HEAD) and writes have separate limits, as their latencies differ.
+ * The health endpoint is exempt, and so are the long-lived export and change feed streams
+ * and CSV import uploads, whose duration says nothing about the service latency.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String PATH_PREFIX = "/api/students";
+    private static final Set<String> EXEMPT_PATHS = Set.of(
+        PATH_PREFIX + "/health", PATH_PREFIX + "/export", PATH_PREFIX + "/changes", PATH_PREFIX + "/import");
+
+    private final AdaptiveConcurrencyLimit readLimit;
+    private final AdaptiveConcurrencyLimit writeLimit;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit readLimit, AdaptiveConcurrencyLimit writeLimit,
+                                  ObjectMapper objectMapper, long retryAfterSeconds) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(PATH_PREFIX) || EXEMPT_PATHS.contains(path)
+            || HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        AdaptiveConcurrencyLimit limit = read ? readLimit : writeLimit;
+
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean releaseNow = true;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // The response is written later, keep the slot until it completes
+                releaseNow = false;
+                request.getAsyncContext().addListener(new ReleaseListener(limit, start, inFlight));
+            }
+        } finally {
+            if (releaseNow) {
+                limit.release(System.nanoTime() - start, inFlight);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+            ApiResponse.error("Too many concurrent requests, please retry later"));
+    }
+
+    private record ReleaseListener(AdaptiveConcurrencyLimit limit, long start, int inFlight) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.release(System.nanoTime() - start, inFlight);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // Completion follows
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // Completion follows
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import edu.eci.arsw.client_spring_rest.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Semaphore bulkhead in front of MongoDB.
+ * With virtual threads there is no request thread pool left to bound concurrency, so every
+ * in-flight request could queue on the driver connection pool; the bulkhead caps concurrent
+ * database operations below the pool size and sheds requests that wait too long for a permit.
+ *
+ * <p>Used as a method interceptor around the student repository. A returned Stream keeps its
+ * cursor, and so its permit, until it is closed.</p>
+ *
+ * <p>Metrics: {@code students.mongo.bulkhead.wait} (permit wait time, tagged by outcome),
+ * {@code students.mongo.bulkhead.available} and {@code students.mongo.bulkhead.waiting}.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class MongoBulkhead implements MethodInterceptor {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Timer acquiredTimer;
+    private final Timer rejectedTimer;
+
+    public MongoBulkhead(MeterRegistry meterRegistry, int maxConcurrent, Duration maxWait) {
+        // Fair, so waiting requests are served in arrival order and tail latency stays bounded
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.acquiredTimer = waitTimer(meterRegistry, "acquired");
+        this.rejectedTimer = waitTimer(meterRegistry, "rejected");
+
+        Gauge.builder("students.mongo.bulkhead.available", permits, Semaphore::availablePermits)
+            .description("Database permits currently available")
+            .register(meterRegistry);
+        Gauge.builder("students.mongo.bulkhead.waiting", permits, Semaphore::getQueueLength)
+            .description("Threads waiting for a database permit")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        acquire();
+        boolean releaseNow = true;
+        try {
+            Object result = invocation.proceed();
+            if (result instanceof Stream<?> stream) {
+                releaseNow = false;
+                return stream.onClose(this::release);
+            }
+            return result;
+        } finally {
+            if (releaseNow) {
+                release();
+            }
+        }
+    }
+
+    /**
+     * Wait for a database permit.
+     *
+     * @throws ServiceOverloadedException if no permit is available within the maximum wait
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted while waiting for a database permit", e);
+        }
+
+        (acquired ? acquiredTimer : rejectedTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            throw new ServiceOverloadedException("Too many concurrent database operations, please retry later");
+        }
+    }
+
+    /**
+     * Return a permit taken with {@link #acquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("students.mongo.bulkhead.wait")
+            .description("Time spent waiting for a database permit")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
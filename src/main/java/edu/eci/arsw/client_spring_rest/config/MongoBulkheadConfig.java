@@ -0,0 +1,38 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Wraps the blocking student repository with the {@link MongoBulkhead}.
+ * Enabled with students.mongo.bulkhead.enabled, which the "virtual-threads" profile turns on.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "students.mongo.bulkhead.enabled", havingValue = "true")
+public class MongoBulkheadConfig {
+
+    @Bean
+    public MongoBulkhead mongoBulkhead(MeterRegistry meterRegistry,
+                                       @Value("${students.mongo.bulkhead.max-concurrent:80}") int maxConcurrent,
+                                       @Value("${students.mongo.bulkhead.max-wait:2s}") Duration maxWait) {
+        return new MongoBulkhead(meterRegistry, maxConcurrent, maxWait);
+    }
+
+    /**
+     * Proxy the student repository so every call goes through the bulkhead.
+     */
+    @Bean
+    public static StudentRepositoryProxyPostProcessor studentRepositoryBulkheadPostProcessor(
+            ObjectProvider<MongoBulkhead> bulkhead) {
+        return new StudentRepositoryProxyPostProcessor(bulkhead, StudentRepositoryProxyPostProcessor.BULKHEAD_ORDER);
+    }
+}
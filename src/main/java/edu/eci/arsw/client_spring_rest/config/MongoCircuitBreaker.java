@@ -0,0 +1,255 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import edu.eci.arsw.client_spring_rest.exception.DatabaseUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Circuit breaker in front of MongoDB.
+ * The outcome of the last calls is kept in a count-based window; when enough of them failed
+ * because the database could not be reached or timed out, the circuit opens and calls fail
+ * at once with {@link DatabaseUnavailableException} instead of each one waiting on the driver
+ * timeouts. After the open duration a single trial call is let through: if it succeeds the
+ * circuit closes again, otherwise it stays open for another period.
+ *
+ * <p>Only connectivity failures and timeouts count as failures; errors the database answered
+ * with, such as a duplicate key, show it is reachable and count as successes. A returned
+ * {@link Stream} reads from the database while it is consumed, so its outcome is recorded
+ * when it fails, is exhausted or is closed.</p>
+ *
+ * <p>Used as a method interceptor around the student repository. Metrics:
+ * {@code students.mongo.circuit-breaker.state} (0 closed, 1 open, 2 half open) and
+ * {@code students.mongo.circuit-breaker.calls}, tagged by outcome.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class MongoCircuitBreaker implements MethodInterceptor {
+
+    /**
+     * State of the circuit.
+     */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    // Ring of the last outcomes (true for a failure) and the circuit state, guarded by this
+    private final boolean[] outcomes;
+    private int nextOutcome;
+    private int recordedCalls;
+    private int failedCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public MongoCircuitBreaker(MeterRegistry meterRegistry, int windowSize, int minimumCalls,
+                               double failureRateThreshold, Duration openDuration) {
+        this(meterRegistry, windowSize, minimumCalls, failureRateThreshold, openDuration, System::nanoTime);
+    }
+
+    MongoCircuitBreaker(MeterRegistry meterRegistry, int windowSize, int minimumCalls,
+                        double failureRateThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+        this.successCounter = callCounter(meterRegistry, "success");
+        this.failureCounter = callCounter(meterRegistry, "failure");
+        this.rejectedCounter = callCounter(meterRegistry, "rejected");
+
+        Gauge.builder("students.mongo.circuit-breaker.state", this, breaker -> breaker.getState().ordinal())
+            .description("Database circuit breaker state: 0 closed, 1 open, 2 half open")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        boolean trial = acquirePermission();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            onResult(trial, isFailure(e));
+            throw e;
+        }
+        if (result instanceof Stream<?> stream) {
+            return guard(stream, trial);
+        }
+        onResult(trial, false);
+        return result;
+    }
+
+    /**
+     * Record the outcome of a stream once it is known: a failure while reading, or a
+     * success when it is exhausted or closed.
+     */
+    private <T> Stream<T> guard(Stream<T> stream, boolean trial) {
+        AtomicBoolean recorded = new AtomicBoolean();
+        Consumer<Boolean> record = failure -> {
+            if (recorded.compareAndSet(false, true)) {
+                onResult(trial, failure);
+            }
+        };
+        return StreamSupport.stream(new GuardedSpliterator<>(stream.spliterator(), record), false)
+            .onClose(() -> {
+                try {
+                    stream.close();
+                } finally {
+                    record.accept(false);
+                }
+            });
+    }
+
+    /**
+     * Check that a call may go to the database.
+     *
+     * @return whether the call is the trial call of a half open circuit
+     * @throws DatabaseUnavailableException if the circuit is open
+     */
+    synchronized boolean acquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.CLOSED) {
+            return false;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+
+        rejectedCounter.increment();
+        long remainingNanos = state == State.OPEN ? openNanos - (nanoClock.getAsLong() - openedAt) : 0;
+        long second = TimeUnit.SECONDS.toNanos(1);
+        throw new DatabaseUnavailableException("Database is unavailable, please retry later",
+            Math.max(1, (remainingNanos + second - 1) / second));
+    }
+
+    synchronized void onResult(boolean trial, boolean failure) {
+        (failure ? failureCounter : successCounter).increment();
+        if (trial) {
+            trialInFlight = false;
+            if (failure) {
+                open();
+            } else {
+                close();
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            // A call let through before the circuit opened, its outcome is already accounted for
+            return;
+        }
+
+        if (recordedCalls == outcomes.length) {
+            failedCalls -= outcomes[nextOutcome] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextOutcome] = failure;
+        failedCalls += failure ? 1 : 0;
+        nextOutcome = (nextOutcome + 1) % outcomes.length;
+
+        if (recordedCalls >= minimumCalls && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Get the state of the circuit.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recordedCalls = 0;
+        failedCalls = 0;
+        nextOutcome = 0;
+    }
+
+    /**
+     * Whether an exception means the database could not be reached or did not answer in time.
+     */
+    static boolean isFailure(Throwable e) {
+        return e instanceof DataAccessResourceFailureException || e instanceof TransientDataAccessException;
+    }
+
+    private record GuardedSpliterator<T>(Spliterator<T> delegate, Consumer<Boolean> record) implements Spliterator<T> {
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                boolean advanced = delegate.tryAdvance(action);
+                if (!advanced) {
+                    record.accept(false);
+                }
+                return advanced;
+            } catch (RuntimeException e) {
+                record.accept(isFailure(e));
+                throw e;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            try {
+                delegate.forEachRemaining(action);
+                record.accept(false);
+            } catch (RuntimeException e) {
+                record.accept(isFailure(e));
+                throw e;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // Read from one cursor in order, so the outcome is recorded once
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("students.mongo.circuit-breaker.calls")
+            .description("Database calls through the circuit breaker by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the blocking student repository with the {@link MongoCircuitBreaker} and bounds the
+ * MongoDB driver timeouts, which default to waiting 30 seconds for a server and two minutes
+ * for a pooled connection, so an unreachable database fails calls within seconds.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Configuration
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "students.mongo.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+public class MongoCircuitBreakerConfig {
+
+    @Bean
+    public MongoCircuitBreaker mongoCircuitBreaker(MeterRegistry meterRegistry,
+                                                   @Value("${students.mongo.circuit-breaker.window-size:20}") int windowSize,
+                                                   @Value("${students.mongo.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                                   @Value("${students.mongo.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                                                   @Value("${students.mongo.circuit-breaker.open-duration:5s}") Duration openDuration) {
+        return new MongoCircuitBreaker(meterRegistry, windowSize, minimumCalls, failureRateThreshold, openDuration);
+    }
+
+    /**
+     * Proxy the student repository so every call goes through the circuit breaker.
+     */
+    @Bean
+    public static StudentRepositoryProxyPostProcessor studentRepositoryCircuitBreakerPostProcessor(
+            ObjectProvider<MongoCircuitBreaker> circuitBreaker) {
+        return new StudentRepositoryProxyPostProcessor(circuitBreaker,
+            StudentRepositoryProxyPostProcessor.CIRCUIT_BREAKER_ORDER);
+    }
+
+    /**
+     * Bound how long the driver waits for a server, a connection and a reply. A reply that
+     * does not arrive within the read timeout fails the operation, so it must stay above the
+     * slowest legitimate command, such as an index build.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoTimeoutsCustomizer(
+            @Value("${students.mongo.timeouts.server-selection:2s}") Duration serverSelection,
+            @Value("${students.mongo.timeouts.connect:2s}") Duration connect,
+            @Value("${students.mongo.timeouts.read:10s}") Duration read,
+            @Value("${students.mongo.timeouts.connection-pool-wait:2s}") Duration connectionPoolWait) {
+        return builder -> builder
+            .applyToClusterSettings(cluster -> cluster
+                .serverSelectionTimeout(serverSelection.toMillis(), TimeUnit.MILLISECONDS))
+            .applyToSocketSettings(socket -> socket
+                .connectTimeout(Math.toIntExact(connect.toMillis()), TimeUnit.MILLISECONDS)
+                .readTimeout(Math.toIntExact(read.toMillis()), TimeUnit.MILLISECONDS))
+            .applyToConnectionPoolSettings(pool -> pool
+                .maxWaitTime(connectionPoolWait.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,27 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration of the reactive stack, active with the "reactive" profile.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * Serve WebFlux from Netty's event loop.
+     * Tomcat is also on the classpath for the servlet stack and would otherwise be
+     * picked, running the reactive handlers on a servlet adapter.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
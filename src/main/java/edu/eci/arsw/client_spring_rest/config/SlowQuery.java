@@ -0,0 +1,113 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One query shape seen running slower than the slow query threshold, with its latest plan.
+ * Instances are snapshots taken by {@link SlowQueryDetector}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class SlowQuery {
+
+    private final String shape;
+    private final String command;
+    private final String collection;
+    private final long count;
+    private final double maxMillis;
+    private final double lastMillis;
+    private final Instant lastSeen;
+    private final boolean collectionScan;
+    private final boolean inMemorySort;
+    private final List<String> indexes;
+    private final List<String> planStages;
+    private final Instant explainedAt;
+    private final String explainError;
+
+    public SlowQuery(String shape, String command, String collection, long count, double maxMillis,
+                     double lastMillis, Instant lastSeen, boolean collectionScan, boolean inMemorySort,
+                     List<String> indexes, List<String> planStages, Instant explainedAt, String explainError) {
+        this.shape = shape;
+        this.command = command;
+        this.collection = collection;
+        this.count = count;
+        this.maxMillis = maxMillis;
+        this.lastMillis = lastMillis;
+        this.lastSeen = lastSeen;
+        this.collectionScan = collectionScan;
+        this.inMemorySort = inMemorySort;
+        this.indexes = indexes;
+        this.planStages = planStages;
+        this.explainedAt = explainedAt;
+        this.explainError = explainError;
+    }
+
+    /**
+     * The command with every value replaced by "?", except sort and projection specs.
+     */
+    public String getShape() {
+        return shape;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * Number of slow executions seen since the shape entered the list.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public double getLastMillis() {
+        return lastMillis;
+    }
+
+    public Instant getLastSeen() {
+        return lastSeen;
+    }
+
+    /**
+     * Whether the winning plan scans the whole collection.
+     */
+    public boolean isCollectionScan() {
+        return collectionScan;
+    }
+
+    /**
+     * Whether the winning plan sorts in memory instead of reading an index in order.
+     */
+    public boolean isInMemorySort() {
+        return inMemorySort;
+    }
+
+    public List<String> getIndexes() {
+        return indexes;
+    }
+
+    public List<String> getPlanStages() {
+        return planStages;
+    }
+
+    /**
+     * When the plan was captured, null until the asynchronous explain completes.
+     */
+    public Instant getExplainedAt() {
+        return explainedAt;
+    }
+
+    public String getExplainError() {
+        return explainError;
+    }
+}
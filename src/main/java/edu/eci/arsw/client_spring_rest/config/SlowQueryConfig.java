@@ -0,0 +1,49 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.time.Duration;
+
+/**
+ * Registers the {@link SlowQueryDetector} on the MongoDB clients, blocking and reactive,
+ * and exposes what it finds through {@link SlowQueryEndpoint}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Configuration
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "students.mongo.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    /**
+     * The template, blocking or reactive depending on the stack, is looked up lazily: it depends
+     * on the client this detector is registered on.
+     */
+    @Bean
+    public SlowQueryDetector slowQueryDetector(ObjectProvider<MongoTemplate> mongoTemplate,
+                                               ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate,
+                                               @Value("${students.mongo.slow-query.threshold:100ms}") Duration threshold,
+                                               @Value("${students.mongo.slow-query.max-shapes:20}") int maxShapes,
+                                               @Value("${students.mongo.slow-query.explain-interval:10m}") Duration explainInterval) {
+        return new SlowQueryDetector(mongoTemplate, reactiveMongoTemplate, threshold, maxShapes, explainInterval);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer slowQueryListenerCustomizer(SlowQueryDetector detector) {
+        return builder -> builder.addCommandListener(detector);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryDetector detector) {
+        return new SlowQueryEndpoint(detector);
+    }
+}
@@ -0,0 +1,384 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB command listener that logs slow queries and captures their plans.
+ *
+ * <p>Query commands taking longer than the threshold are logged and grouped by shape: the
+ * command with every value masked, so the same finder with different arguments is one
+ * entry. The first time a shape is seen, and again after the explain interval, the command
+ * is explained on a background thread and the winning plan is checked for collection scans
+ * and in-memory sorts. Only the worst shapes, by slowest execution, are kept; they are
+ * exposed through {@link SlowQueryEndpoint}.</p>
+ *
+ * <p>On the command path the listener only copies query commands until they complete, so
+ * fast commands cost one small copy and two map operations.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class SlowQueryDetector implements CommandListener, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryDetector.class);
+
+    private static final Set<String> EXPLAINABLE_COMMANDS =
+        Set.of("find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+    // Session, transaction and API fields: not part of the query, and rejected inside explain
+    private static final Set<String> GENERIC_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction",
+        "readConcern", "writeConcern", "apiVersion", "apiStrict", "apiDeprecationErrors", "maxTimeMS", "comment");
+    // Values that are part of the shape rather than arguments
+    private static final Set<String> SHAPE_FIELDS = Set.of("sort", "$sort", "projection", "$project", "fields");
+    private static final BsonString MASK = new BsonString("?");
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate;
+    private final long thresholdNanos;
+    private final int maxShapes;
+    private final Duration explainInterval;
+    private final ThreadPoolExecutor explainExecutor;
+
+    // Query commands in flight by request id, copied because event documents do not outlive the callback
+    private final Map<Integer, PendingCommand> inFlight = new ConcurrentHashMap<>();
+    // The worst shapes by shape, guarded by itself
+    private final Map<String, Entry> shapes = new HashMap<>();
+
+    public SlowQueryDetector(ObjectProvider<MongoTemplate> mongoTemplate,
+                             ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate, Duration threshold,
+                             int maxShapes, Duration explainInterval) {
+        this.mongoTemplate = mongoTemplate;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.thresholdNanos = threshold.toNanos();
+        this.maxShapes = maxShapes;
+        this.explainInterval = explainInterval;
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+            runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (EXPLAINABLE_COMMANDS.contains(event.getCommandName())) {
+            inFlight.put(event.getRequestId(), new PendingCommand(event.getDatabaseName(), event.getCommand().clone()));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void completed(int requestId, String commandName, long elapsedNanos) {
+        PendingCommand pending = inFlight.remove(requestId);
+        if (pending != null && elapsedNanos >= thresholdNanos) {
+            record(pending.database(), commandName, pending.command(), elapsedNanos);
+        }
+    }
+
+    /**
+     * Record a slow execution of a command, and explain it if its shape has no recent plan.
+     *
+     * @param database the database the command ran on
+     * @param commandName the command name
+     * @param command the command as sent
+     * @param elapsedNanos how long it took
+     */
+    void record(String database, String commandName, BsonDocument command, long elapsedNanos) {
+        BsonDocument query = queryOf(command);
+        String shape = shape(commandName, query).toJson();
+        BsonValue target = command.get(commandName);
+        String collection = target != null && target.isString() ? target.asString().getValue() : null;
+        logger.warn("Slow MongoDB {} on {} took {} ms: {}", commandName, collection, elapsedNanos / 1_000_000, shape);
+
+        Entry entry;
+        boolean explain;
+        synchronized (shapes) {
+            entry = shapes.get(shape);
+            if (entry == null) {
+                if (shapes.size() >= maxShapes) {
+                    Entry fastest = shapes.values().stream().min(Comparator.comparingLong(e -> e.maxNanos)).orElseThrow();
+                    if (fastest.maxNanos >= elapsedNanos) {
+                        return;
+                    }
+                    shapes.remove(fastest.shape);
+                }
+                entry = new Entry(shape, commandName, collection);
+                shapes.put(shape, entry);
+            }
+            entry.seen(elapsedNanos);
+            explain = entry.startExplain(explainInterval);
+        }
+
+        if (explain) {
+            Entry explained = entry;
+            try {
+                explainExecutor.execute(() -> explain(explained, database, query));
+            } catch (RejectedExecutionException e) {
+                // Too many plans waiting, the next slow execution tries again
+                synchronized (shapes) {
+                    explained.explaining = false;
+                }
+            }
+        }
+    }
+
+    private void explain(Entry entry, String database, BsonDocument query) {
+        MongoTemplate template = mongoTemplate.getIfAvailable();
+        ReactiveMongoTemplate reactiveTemplate = template == null ? reactiveMongoTemplate.getIfAvailable() : null;
+        Plan plan = null;
+        String error = null;
+        if (template == null && reactiveTemplate == null) {
+            error = "No MongoTemplate available";
+        } else {
+            try {
+                BsonDocument explain = new BsonDocument("explain", query)
+                    .append("verbosity", new BsonString("queryPlanner"));
+                Document result = template != null
+                    ? template.getMongoDatabaseFactory().getMongoDatabase(database).runCommand(explain)
+                    // On the explain thread, so waiting for the reactive driver blocks no event loop
+                    : reactiveTemplate.getMongoDatabaseFactory().getMongoDatabase(database)
+                        .flatMap(db -> Mono.from(db.runCommand(explain))).block();
+                plan = analyzePlan(result);
+            } catch (RuntimeException e) {
+                error = e.getMessage();
+            }
+        }
+
+        synchronized (shapes) {
+            entry.explained(plan, error);
+        }
+        if (plan != null && (plan.collectionScan() || plan.inMemorySort())) {
+            logger.warn("Slow MongoDB {} on {} runs with {}: {}", entry.command, entry.collection,
+                String.join(" <- ", plan.stages()), entry.shape);
+        }
+    }
+
+    /**
+     * Get the recorded shapes, slowest first.
+     */
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (shapes) {
+            return shapes.values().stream()
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.maxNanos).reversed())
+                .map(Entry::snapshot)
+                .toList();
+        }
+    }
+
+    /**
+     * Forget every recorded shape.
+     */
+    public void reset() {
+        synchronized (shapes) {
+            shapes.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    /**
+     * The query part of a command: without driver-added fields, and with a single statement,
+     * since explain accepts one update or delete at a time.
+     */
+    static BsonDocument queryOf(BsonDocument command) {
+        BsonDocument query = new BsonDocument();
+        for (Map.Entry<String, BsonValue> field : command.entrySet()) {
+            String key = field.getKey();
+            if (key.startsWith("$") || GENERIC_FIELDS.contains(key)) {
+                continue;
+            }
+            BsonValue value = field.getValue();
+            if ((key.equals("updates") || key.equals("deletes")) && value.isArray() && value.asArray().size() > 1) {
+                value = new BsonArray(List.of(value.asArray().get(0)));
+            }
+            query.append(key, value);
+        }
+        return query;
+    }
+
+    /**
+     * Mask every argument of a query, keeping the command name, collection, field names,
+     * operators, and sort and projection specs.
+     */
+    static BsonDocument shape(String commandName, BsonDocument query) {
+        BsonDocument shape = new BsonDocument();
+        for (Map.Entry<String, BsonValue> field : query.entrySet()) {
+            String key = field.getKey();
+            boolean keep = key.equals(commandName) || SHAPE_FIELDS.contains(key);
+            shape.append(key, keep ? field.getValue() : mask(field.getValue()));
+        }
+        return shape;
+    }
+
+    private static BsonValue mask(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument masked = new BsonDocument();
+            for (Map.Entry<String, BsonValue> field : value.asDocument().entrySet()) {
+                masked.append(field.getKey(),
+                    SHAPE_FIELDS.contains(field.getKey()) ? field.getValue() : mask(field.getValue()));
+            }
+            return masked;
+        }
+        // Arrays of documents are pipelines or $and/$or branches, which are part of the shape
+        if (value.isArray() && !value.asArray().isEmpty()
+                && value.asArray().stream().allMatch(BsonValue::isDocument)) {
+            BsonArray masked = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                masked.add(mask(element));
+            }
+            return masked;
+        }
+        // A regex is planned differently from an equality, keep that it is one and its options
+        if (value.isRegularExpression()) {
+            return new BsonRegularExpression("?", value.asRegularExpression().getOptions());
+        }
+        return MASK;
+    }
+
+    /**
+     * Collect the stages and indexes of every winning plan in an explain result.
+     * Aggregations report a plan per pipeline part, and the plan format differs between
+     * query engines, so plans are looked for anywhere in the result.
+     */
+    static Plan analyzePlan(Document explain) {
+        Set<String> stages = new LinkedHashSet<>();
+        Set<String> indexes = new LinkedHashSet<>();
+        findWinningPlans(explain, stages, indexes);
+        return new Plan(new ArrayList<>(stages), new ArrayList<>(indexes),
+            stages.contains("COLLSCAN"), stages.contains("SORT"));
+    }
+
+    private static void findWinningPlans(Object value, Set<String> stages, Set<String> indexes) {
+        if (value instanceof Map<?, ?> document) {
+            for (Map.Entry<?, ?> field : document.entrySet()) {
+                if ("winningPlan".equals(field.getKey())) {
+                    collectStages(field.getValue(), stages, indexes);
+                } else {
+                    findWinningPlans(field.getValue(), stages, indexes);
+                }
+            }
+        } else if (value instanceof List<?> list) {
+            for (Object element : list) {
+                findWinningPlans(element, stages, indexes);
+            }
+        }
+    }
+
+    private static void collectStages(Object value, Set<String> stages, Set<String> indexes) {
+        if (value instanceof Map<?, ?> document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            if (document.get("indexName") instanceof String index) {
+                indexes.add(index);
+            }
+            for (Object child : document.values()) {
+                collectStages(child, stages, indexes);
+            }
+        } else if (value instanceof List<?> list) {
+            for (Object element : list) {
+                collectStages(element, stages, indexes);
+            }
+        }
+    }
+
+    record Plan(List<String> stages, List<String> indexes, boolean collectionScan, boolean inMemorySort) {
+    }
+
+    private record PendingCommand(String database, BsonDocument command) {
+    }
+
+    /**
+     * Statistics and latest plan of one shape, guarded by the shapes map.
+     */
+    private static final class Entry {
+
+        private final String shape;
+        private final String command;
+        private final String collection;
+        private long count;
+        private long maxNanos;
+        private long lastNanos;
+        private Instant lastSeen;
+        private boolean explaining;
+        private Instant explainedAt;
+        private Plan plan;
+        private String explainError;
+
+        Entry(String shape, String command, String collection) {
+            this.shape = shape;
+            this.command = command;
+            this.collection = collection;
+        }
+
+        void seen(long elapsedNanos) {
+            count++;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+            lastNanos = elapsedNanos;
+            lastSeen = Instant.now();
+        }
+
+        boolean startExplain(Duration interval) {
+            if (explaining || (explainedAt != null && explainedAt.plus(interval).isAfter(Instant.now()))) {
+                return false;
+            }
+            explaining = true;
+            return true;
+        }
+
+        void explained(Plan plan, String error) {
+            explaining = false;
+            explainedAt = Instant.now();
+            this.plan = plan != null ? plan : this.plan;
+            explainError = error;
+        }
+
+        SlowQuery snapshot() {
+            return new SlowQuery(shape, command, collection, count, maxNanos / 1e6, lastNanos / 1e6, lastSeen,
+                plan != null && plan.collectionScan(), plan != null && plan.inMemorySort(),
+                plan != null ? plan.indexes() : List.of(), plan != null ? plan.stages() : List.of(),
+                explainedAt, explainError);
+        }
+    }
+}
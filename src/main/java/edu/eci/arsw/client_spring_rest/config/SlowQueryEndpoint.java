@@ -0,0 +1,34 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the slowest MongoDB query shapes and their plans,
+ * at /actuator/slowqueries. A DELETE clears the list.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryDetector detector;
+
+    public SlowQueryEndpoint(SlowQueryDetector detector) {
+        this.detector = detector;
+    }
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return detector.getSlowQueries();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        detector.reset();
+    }
+}
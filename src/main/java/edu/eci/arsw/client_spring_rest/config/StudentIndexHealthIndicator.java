@@ -0,0 +1,46 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the result of the last student index verification.
+ * A missing or non-unique email index is reported as OUT_OF_SERVICE: duplicate emails are
+ * then only caught by a check before each write, which does not hold under concurrent writes.
+ * Other index drift is reported as UP with details, since reads and writes still work;
+ * a disabled, pending or failed verification is reported as UNKNOWN.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("!in-memory")
+public class StudentIndexHealthIndicator implements HealthIndicator {
+
+    private final StudentIndexManager indexManager;
+
+    public StudentIndexHealthIndicator(StudentIndexManager indexManager) {
+        this.indexManager = indexManager;
+    }
+
+    @Override
+    public Health health() {
+        if (!indexManager.isEnabled()) {
+            return Health.unknown().withDetail("indexes", "verification disabled").build();
+        }
+        if (indexManager.getFailure() != null) {
+            return Health.unknown().withDetail("error", indexManager.getFailure()).build();
+        }
+        if (indexManager.getVerifiedAt() == null) {
+            return Health.unknown().withDetail("indexes", "not verified yet").build();
+        }
+
+        Health.Builder health = indexManager.isEmailIndexVerified() ? Health.up() : Health.outOfService();
+        return health
+            .withDetail("verifiedAt", indexManager.getVerifiedAt())
+            .withDetail("drift", indexManager.getDrift())
+            .build();
+    }
+}
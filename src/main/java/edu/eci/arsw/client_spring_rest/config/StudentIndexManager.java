@@ -0,0 +1,230 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import edu.eci.arsw.client_spring_rest.model.Student;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Creates and verifies the indexes of the "students" collection at startup.
+ * The expected indexes are resolved from the annotations on {@link Student}; any missing
+ * index is created, and differences with what the database reports are logged as drift
+ * and exposed through {@link StudentIndexHealthIndicator}.
+ *
+ * <p>The duplicate email check relies on the unique email index. Until the index is verified
+ * (or when verification is disabled or fails), {@link #isEmailIndexVerified()} is false and
+ * the services check for a duplicate email before each write instead.
+ * The "in-memory" profile has no collection to check, its repository keeps its own indexes.
+ * With the "reactive" profile only the reactive template exists; it is waited on from the
+ * verification thread.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("!in-memory")
+public class StudentIndexManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentIndexManager.class);
+    private static final String ID_INDEX = "_id_";
+    private static final String EMAIL_INDEX = "email_unique";
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate;
+    private final boolean enabled;
+
+    private volatile Instant verifiedAt;
+    private volatile List<String> drift = Collections.emptyList();
+    private volatile String failure;
+    private volatile boolean emailIndexVerified;
+
+    public StudentIndexManager(ObjectProvider<MongoTemplate> mongoTemplate,
+                               ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate,
+                               @Value("${students.indexes.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Start index verification once the application is ready.
+     * It runs on a background thread so an unreachable database does not hold up startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::ensureIndexes, "student-index-manager");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Create missing indexes and compare the collection indexes with the expected ones.
+     */
+    public void ensureIndexes() {
+        try {
+            MongoMappingContext mappingContext;
+            Function<IndexDefinition, String> createIndex;
+            Supplier<List<IndexInfo>> indexInfo;
+            MongoTemplate template = mongoTemplate.getIfAvailable();
+            if (template != null) {
+                IndexOperations indexOps = template.indexOps(Student.class);
+                mappingContext = (MongoMappingContext) template.getConverter().getMappingContext();
+                createIndex = indexOps::createIndex;
+                indexInfo = indexOps::getIndexInfo;
+            } else {
+                ReactiveMongoTemplate reactiveTemplate = reactiveMongoTemplate.getObject();
+                ReactiveIndexOperations indexOps = reactiveTemplate.indexOps(Student.class);
+                mappingContext = (MongoMappingContext) reactiveTemplate.getConverter().getMappingContext();
+                createIndex = definition -> indexOps.createIndex(definition).block();
+                indexInfo = () -> indexOps.getIndexInfo().collectList().block();
+            }
+
+            List<String> problems = new ArrayList<>();
+            Map<String, Document> expected = new HashMap<>();
+
+            for (IndexDefinition definition : IndexResolver.create(mappingContext).resolveIndexFor(Student.class)) {
+                String name = definition.getIndexOptions().getString("name");
+                expected.put(name, definition.getIndexKeys());
+                try {
+                    createIndex.apply(definition);
+                } catch (RuntimeException e) {
+                    // Typically an existing index with the same keys but other options or name
+                    problems.add("Could not create index " + name + ": " + e.getMessage());
+                }
+            }
+
+            List<IndexInfo> actual = indexInfo.get();
+            problems.addAll(findDrift(actual, expected));
+
+            drift = Collections.unmodifiableList(problems);
+            emailIndexVerified = isUniqueEmailIndex(actual, expected.get(EMAIL_INDEX));
+            failure = null;
+            verifiedAt = Instant.now();
+
+            if (problems.isEmpty()) {
+                logger.info("Student indexes verified: {}", expected.keySet());
+            } else {
+                problems.forEach(problem -> logger.warn("Student index drift: {}", problem));
+            }
+        } catch (RuntimeException e) {
+            emailIndexVerified = false;
+            failure = e.getMessage();
+            logger.warn("Could not verify student indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compare the indexes reported by the database with the expected ones.
+     *
+     * @param actual the indexes reported by the database
+     * @param expected the expected index keys by index name
+     * @return a description of each difference
+     */
+    private List<String> findDrift(List<IndexInfo> actual, Map<String, Document> expected) {
+        List<String> problems = new ArrayList<>();
+        Map<String, IndexInfo> actualByName = actual.stream()
+            .collect(Collectors.toMap(IndexInfo::getName, info -> info));
+
+        for (Map.Entry<String, Document> entry : expected.entrySet()) {
+            IndexInfo info = actualByName.get(entry.getKey());
+            if (info == null) {
+                problems.add("Missing index " + entry.getKey());
+            } else if (!keysOf(info).equals(keysOf(entry.getValue()))) {
+                problems.add("Index " + entry.getKey() + " has keys " + keysOf(info)
+                    + " instead of " + keysOf(entry.getValue()));
+            }
+        }
+
+        IndexInfo email = actualByName.get(EMAIL_INDEX);
+        if (email != null && !email.isUnique()) {
+            problems.add("Index " + EMAIL_INDEX + " is not unique");
+        }
+
+        for (String name : actualByName.keySet()) {
+            if (!ID_INDEX.equals(name) && !expected.containsKey(name)) {
+                problems.add("Unexpected index " + name);
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Check that the unique email index exists with the expected keys.
+     *
+     * @param actual the indexes reported by the database
+     * @param expectedKeys the expected keys of the email index
+     * @return true if duplicate emails are rejected by the database
+     */
+    private static boolean isUniqueEmailIndex(List<IndexInfo> actual, Document expectedKeys) {
+        return expectedKeys != null && actual.stream()
+            .anyMatch(info -> EMAIL_INDEX.equals(info.getName()) && info.isUnique()
+                && keysOf(info).equals(keysOf(expectedKeys)));
+    }
+
+    private static String keysOf(IndexInfo info) {
+        return info.getIndexFields().stream()
+            .map(field -> field.getKey() + ":" + direction(field))
+            .collect(Collectors.joining(","));
+    }
+
+    private static String keysOf(Document keys) {
+        return keys.entrySet().stream()
+            .map(entry -> entry.getKey() + ":" + (((Number) entry.getValue()).intValue() < 0 ? "DESC" : "ASC"))
+            .collect(Collectors.joining(","));
+    }
+
+    private static String direction(IndexField field) {
+        return field.getDirection() != null ? field.getDirection().name() : "OTHER";
+    }
+
+    public Instant getVerifiedAt() {
+        return verifiedAt;
+    }
+
+    public List<String> getDrift() {
+        return drift;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Whether the last verification found the unique email index in place.
+     */
+    public boolean isEmailIndexVerified() {
+        return emailIndexVerified;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
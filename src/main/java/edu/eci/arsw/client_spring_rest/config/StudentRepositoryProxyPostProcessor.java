@@ -0,0 +1,57 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import edu.eci.arsw.client_spring_rest.repository.StudentRepository;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * Proxies the blocking student repository so every call goes through an advice, such as
+ * the {@link MongoBulkhead} or the {@link MongoCircuitBreaker}. The advice is looked up
+ * lazily, so the meter registry is not created early by this post processor.
+ *
+ * <p>Post processors with a lower order run first and so end up innermost: the circuit
+ * breaker wraps the bulkhead, and an open circuit rejects calls without taking a permit.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentRepositoryProxyPostProcessor implements BeanPostProcessor, Ordered {
+
+    /**
+     * Order of the bulkhead proxy, next to the repository.
+     */
+    public static final int BULKHEAD_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    /**
+     * Order of the circuit breaker proxy, around the bulkhead.
+     */
+    public static final int CIRCUIT_BREAKER_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    private final ObjectProvider<? extends Advice> advice;
+    private final int order;
+
+    public StudentRepositoryProxyPostProcessor(ObjectProvider<? extends Advice> advice, int order) {
+        this.advice = advice;
+        this.order = order;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof StudentRepository)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.setInterfaces(StudentRepository.class);
+        proxyFactory.addAdvice(advice.getObject());
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
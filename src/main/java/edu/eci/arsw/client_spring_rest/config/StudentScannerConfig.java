@@ -0,0 +1,32 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import edu.eci.arsw.client_spring_rest.repository.ReactiveStudentRepository;
+import edu.eci.arsw.client_spring_rest.repository.StudentRepository;
+import edu.eci.arsw.client_spring_rest.service.StudentScanner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Chooses how the in-memory indexes read every student: through the blocking repository on
+ * the servlet stack, or through the reactive repository, iterated on the index build thread,
+ * with the "reactive" profile.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Configuration
+public class StudentScannerConfig {
+
+    @Bean
+    @Profile("!reactive")
+    public StudentScanner studentScanner(StudentRepository studentRepository) {
+        return () -> studentRepository.streamByFilter(null, null, null);
+    }
+
+    @Bean
+    @Profile("reactive")
+    public StudentScanner reactiveStudentScanner(ReactiveStudentRepository studentRepository) {
+        return () -> studentRepository.streamByFilter(null, null, null).toStream();
+    }
+}
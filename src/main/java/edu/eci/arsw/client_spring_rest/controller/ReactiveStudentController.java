@@ -0,0 +1,457 @@
+package edu.eci.arsw.client_spring_rest.controller;
+
+import edu.eci.arsw.client_spring_rest.dto.ApiResponse;
+import edu.eci.arsw.client_spring_rest.dto.BatchLookupResponse;
+import edu.eci.arsw.client_spring_rest.dto.BulkCreateResponse;
+import edu.eci.arsw.client_spring_rest.dto.PageResponse;
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentCreateRequest;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentSuggestion;
+import edu.eci.arsw.client_spring_rest.service.StudentChangeFeed;
+import edu.eci.arsw.client_spring_rest.service.ReactiveStudentService;
+import edu.eci.arsw.client_spring_rest.service.StudentCollectionGeneration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * WebFlux counterpart of {@link StudentController}, active with the "reactive" profile.
+ * Exposes the same API contract (paths, parameters, status codes and payloads) on top of
+ * {@link ReactiveStudentService}, so requests are served by the Netty event loop without
+ * holding a thread while MongoDB answers.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/students")
+@CrossOrigin(origins = "${cors.allowed.origins:http://localhost:3000}")
+@Validated
+@Profile("reactive")
+public class ReactiveStudentController {
+
+    private static final String DEFAULT_PAGE_LIMIT = "${students.pagination.default-limit:50}";
+    private static final String DEFAULT_SUGGESTION_LIMIT = "${students.autocomplete.default-limit:10}";
+
+    private final ReactiveStudentService studentService;
+    private final StudentCollectionGeneration collectionGeneration;
+    private final StudentChangeFeed changeFeed;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectReader bulkEntryReader;
+    private final ObjectMapper objectMapper;
+    private final int exportFlushEvery;
+    private final Duration changesHeartbeat;
+
+    public ReactiveStudentController(ReactiveStudentService studentService,
+                                     StudentCollectionGeneration collectionGeneration,
+                                     StudentChangeFeed changeFeed,
+                                     ObjectMapper objectMapper,
+                                     @Value("${students.export.flush-every:500}") int exportFlushEvery,
+                                     @Value("${students.changes.heartbeat:15s}") Duration changesHeartbeat) {
+        this.studentService = studentService;
+        this.collectionGeneration = collectionGeneration;
+        this.changeFeed = changeFeed;
+        // NDJSON needs one document per line, so never indent regardless of the global setting
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.bulkEntryReader = objectMapper.readerFor(StudentCreateRequest.class);
+        this.objectMapper = objectMapper;
+        this.exportFlushEvery = exportFlushEvery;
+        this.changesHeartbeat = changesHeartbeat;
+    }
+
+    /**
+     * @see StudentController#createStudent
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<StudentResponse>>> createStudent(
+            @Valid @RequestBody StudentCreateRequest request) {
+
+        return studentService.createStudent(request)
+            .map(student -> new ResponseEntity<>(
+                ApiResponse.success(student, "Student created successfully"), HttpStatus.CREATED));
+    }
+
+    /**
+     * @see StudentController#createStudents
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ApiResponse<BulkCreateResponse>>> createStudents(
+            @RequestBody @Size(max = 10000, message = "At most 10000 students per bulk request")
+            List<StudentCreateRequest> requests) {
+
+        return bulkResponse(studentService.createStudents(Flux.fromIterable(requests).map(Optional::of)));
+    }
+
+    /**
+     * Create many students from newline-delimited JSON, decoding lines as they arrive.
+     *
+     * @see StudentController#createStudentsFromNdjson
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public Mono<ResponseEntity<ApiResponse<BulkCreateResponse>>> createStudentsFromNdjson(
+            @RequestBody Flux<String> lines) {
+
+        Flux<Optional<StudentCreateRequest>> requests = lines
+            .filter(line -> !line.isBlank())
+            .map(this::readBulkEntry);
+
+        return bulkResponse(studentService.createStudents(requests));
+    }
+
+    /**
+     * @see StudentController#getAllStudents
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<PageResponse<StudentResponse>>>> getAllStudents(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            ServerWebExchange exchange) {
+
+        return conditionalCollection(exchange, () -> studentService.getAllStudents(after, limit)
+            .map(students -> ApiResponse.success(students, "Retrieved " + students.getSize() + " students")));
+    }
+
+    /**
+     * @see StudentController#getStudentsByIds
+     */
+    @GetMapping("/batch")
+    public Mono<ResponseEntity<ApiResponse<BatchLookupResponse>>> getStudentsByIds(@RequestParam List<String> ids,
+                                                                                   ServerWebExchange exchange) {
+        return conditionalCollection(exchange, () -> studentService.getStudentsByIds(ids).map(this::batchResponse));
+    }
+
+    /**
+     * @see StudentController#getStudentsByIdsFromBody
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<ApiResponse<BatchLookupResponse>>> getStudentsByIdsFromBody(
+            @RequestBody List<String> ids) {
+
+        return studentService.getStudentsByIds(ids).map(result -> ResponseEntity.ok(batchResponse(result)));
+    }
+
+    /**
+     * Get student by ID. A matching If-None-Match or If-Modified-Since yields 304,
+     * checked by WebFlux against the ETag and Last-Modified of the response.
+     *
+     * @see StudentController#getStudentById
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<StudentResponse>>> getStudentById(@PathVariable String id) {
+        return studentService.getStudentById(id).map(student -> studentResponse(student, "Student found"));
+    }
+
+    /**
+     * @see StudentController#getStudentByEmail
+     */
+    @GetMapping("/email/{email}")
+    public Mono<ResponseEntity<ApiResponse<StudentResponse>>> getStudentByEmail(
+            @PathVariable @Email(message = "Invalid email format") String email) {
+
+        return studentService.getStudentByEmail(email).map(student -> studentResponse(student, "Student found"));
+    }
+
+    /**
+     * @see StudentController#getStudentsByProgram
+     */
+    @GetMapping("/program/{program}")
+    public Mono<ResponseEntity<ApiResponse<PageResponse<StudentResponse>>>> getStudentsByProgram(
+            @PathVariable @NotBlank(message = "Program cannot be blank") String program,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            ServerWebExchange exchange) {
+
+        return conditionalCollection(exchange, () -> studentService.getStudentsByProgram(program, after, limit)
+            .map(students -> ApiResponse.success(students,
+                "Found " + students.getSize() + " students in program: " + program)));
+    }
+
+    /**
+     * @see StudentController#searchStudentsByName
+     */
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ApiResponse<PageResponse<StudentResponse>>>> searchStudentsByName(
+            @RequestParam @NotBlank(message = "Name parameter cannot be blank") String name,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            ServerWebExchange exchange) {
+
+        return conditionalCollection(exchange, () -> studentService.searchStudentsByName(name, after, limit)
+            .map(students -> ApiResponse.success(students,
+                "Found " + students.getSize() + " students matching: " + name)));
+    }
+
+    /**
+     * @see StudentController#autocomplete
+     */
+    @GetMapping("/autocomplete")
+    public Mono<ResponseEntity<ApiResponse<List<StudentSuggestion>>>> autocomplete(
+            @RequestParam @NotBlank(message = "Prefix parameter cannot be blank") String prefix,
+            @RequestParam(defaultValue = DEFAULT_SUGGESTION_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit) {
+
+        return studentService.autocomplete(prefix, limit)
+            .map(suggestions -> ResponseEntity.ok(ApiResponse.success(suggestions,
+                "Found " + suggestions.size() + " suggestions for: " + prefix)));
+    }
+
+    /**
+     * @see StudentController#updateStudent
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<StudentResponse>>> updateStudent(
+            @PathVariable String id,
+            @Valid @RequestBody StudentCreateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+
+        return studentService.updateStudent(id, request, StudentETags.parseIfMatch(ifMatch))
+            .map(student -> studentResponse(student, "Student updated successfully"));
+    }
+
+    /**
+     * @see StudentController#patchStudent
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<ApiResponse<StudentResponse>>> patchStudent(
+            @PathVariable String id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+
+        if (!patch.isObject()) {
+            throw new IllegalArgumentException("Patch must be a JSON object");
+        }
+
+        StudentCreateRequest values;
+        try {
+            values = objectMapper.treeToValue(patch, StudentCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Patch has invalid values: " + e.getOriginalMessage());
+        }
+
+        Set<String> fields = new HashSet<>();
+        patch.fieldNames().forEachRemaining(fields::add);
+
+        return studentService.patchStudent(id, values, fields, StudentETags.parseIfMatch(ifMatch))
+            .map(student -> studentResponse(student, "Student updated successfully"));
+    }
+
+    /**
+     * @see StudentController#deleteStudent
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> deleteStudent(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+
+        return studentService.deleteStudent(id, StudentETags.parseIfMatch(ifMatch))
+            .then(Mono.fromSupplier(() -> ResponseEntity.ok(
+                ApiResponse.<Void>success(null, "Student deleted successfully"))));
+    }
+
+    /**
+     * @see StudentController#getStudentsByBirthDateRange
+     */
+    @GetMapping("/birthdate-range")
+    public Mono<ResponseEntity<ApiResponse<PageResponse<StudentResponse>>>> getStudentsByBirthDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            ServerWebExchange exchange) {
+
+        return conditionalCollection(exchange, () -> studentService.getStudentsByBirthDateRange(
+                startDate, endDate, after, limit)
+            .map(students -> ApiResponse.success(students,
+                "Found " + students.getSize() + " students born between " + startDate + " and " + endDate)));
+    }
+
+    /**
+     * @see StudentController#getStudentCountByProgram
+     */
+    @GetMapping("/count/program/{program}")
+    public Mono<ResponseEntity<ApiResponse<Long>>> getStudentCountByProgram(
+            @PathVariable @NotBlank(message = "Program cannot be blank") String program,
+            ServerWebExchange exchange) {
+
+        return conditionalCollection(exchange, () -> studentService.getStudentCountByProgram(program)
+            .map(count -> ApiResponse.success(count, "Student count for program " + program + ": " + count)));
+    }
+
+    /**
+     * @see StudentController#getProgramStats
+     */
+    @GetMapping("/stats/programs")
+    public Mono<ResponseEntity<ApiResponse<List<ProgramStats>>>> getProgramStats(ServerWebExchange exchange) {
+        return conditionalCollection(exchange, () -> studentService.getProgramStats()
+            .map(stats -> ApiResponse.success(stats, "Statistics for " + stats.size() + " programs")));
+    }
+
+    /**
+     * @see StudentController#getAllStudentsOrderedByName
+     */
+    @GetMapping("/ordered-by-name")
+    public Mono<ResponseEntity<ApiResponse<PageResponse<StudentResponse>>>> getAllStudentsOrderedByName(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            ServerWebExchange exchange) {
+
+        return conditionalCollection(exchange, () -> studentService.getAllStudentsOrderedByName(after, limit)
+            .map(students -> ApiResponse.success(students,
+                "Retrieved " + students.getSize() + " students ordered by name")));
+    }
+
+    /**
+     * Export students as newline-delimited JSON, optionally filtered.
+     * Lines are grouped into one buffer per {@code students.export.flush-every} students,
+     * and the database cursor is only advanced as fast as the client reads.
+     *
+     * @see StudentController#exportStudents
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<Flux<DataBuffer>> exportStudents(
+            @RequestParam(required = false) String program,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            ServerWebExchange exchange) {
+
+        // Validate before streaming starts, while an error response can still be sent
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+
+        DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+        Flux<DataBuffer> body = studentService.exportStudents(program, startDate, endDate)
+            .buffer(exportFlushEvery)
+            .map(students -> bufferFactory.wrap(writeNdjson(students)));
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * @see StudentController#streamChanges
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        return StudentChangeStreams.response(changeFeed, ndjsonWriter, lastEventId, changesHeartbeat);
+    }
+
+    /**
+     * Health check endpoint.
+     *
+     * @return simple health status
+     */
+    @GetMapping("/health")
+    public ResponseEntity<ApiResponse<String>> health() {
+        ApiResponse<String> response = ApiResponse.success("OK", "Student service is running");
+        return ResponseEntity.ok(response);
+    }
+
+    private byte[] writeNdjson(List<StudentResponse> students) {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(students.size() * 256);
+        try {
+            for (StudentResponse student : students) {
+                ndjsonWriter.writeValue(lines, student);
+                lines.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lines.toByteArray();
+    }
+
+    /**
+     * Parse one NDJSON bulk entry, returning empty when the line is not valid JSON.
+     */
+    private Optional<StudentCreateRequest> readBulkEntry(String line) {
+        try {
+            return Optional.of(bulkEntryReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    private ApiResponse<BatchLookupResponse> batchResponse(BatchLookupResponse result) {
+        return ApiResponse.success(result,
+            "Found " + result.getStudents().size() + " students, " + result.getMissingIds().size() + " missing");
+    }
+
+    /**
+     * Answer a collection read, or 304 Not Modified without running the query when no student
+     * was written since the client's copy. The generation is read before the query runs; when
+     * it may miss writes of other instances, the read is answered without validators.
+     */
+    private <T> Mono<ResponseEntity<ApiResponse<T>>> conditionalCollection(
+            ServerWebExchange exchange, Supplier<Mono<ApiResponse<T>>> query) {
+
+        String generation = collectionGeneration.currentForAllWriters();
+        if (generation == null) {
+            return query.get().map(ResponseEntity::ok);
+        }
+        String etag = StudentETags.forCollection(generation);
+        long lastModified = collectionGeneration.getLastModified();
+        if (exchange.checkNotModified(etag, Instant.ofEpochMilli(lastModified))) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+        }
+        return query.get().map(response -> ResponseEntity.ok().eTag(etag).lastModified(lastModified).body(response));
+    }
+
+    private ResponseEntity<ApiResponse<StudentResponse>> studentResponse(StudentResponse student, String message) {
+        ApiResponse<StudentResponse> response = ApiResponse.success(student, message);
+
+        String etag = StudentETags.forStudent(student);
+        if (etag == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(etag).lastModified(StudentETags.lastModified(student)).body(response);
+    }
+
+    private Mono<ResponseEntity<ApiResponse<BulkCreateResponse>>> bulkResponse(Mono<BulkCreateResponse> result) {
+        return result.map(bulk -> {
+            ApiResponse<BulkCreateResponse> response = ApiResponse.success(bulk,
+                "Created " + bulk.getCreated() + " of " + bulk.getTotal() + " students");
+
+            HttpStatus status = bulk.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+            return new ResponseEntity<>(response, status);
+        });
+    }
+}
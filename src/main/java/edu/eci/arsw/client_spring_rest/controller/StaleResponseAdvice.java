@@ -0,0 +1,58 @@
+package edu.eci.arsw.client_spring_rest.controller;
+
+import edu.eci.arsw.client_spring_rest.dto.ApiResponse;
+import edu.eci.arsw.client_spring_rest.service.StudentReadFallback;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks responses answered with a last known good read as stale.
+ * The response gets a {@code Warning: 110} header and a message saying so, and loses its
+ * validators and cacheability: a stale copy must not be revalidated as current with its
+ * ETag once the database is back.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@RestControllerAdvice(assignableTypes = StudentController.class)
+@Profile("!reactive")
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || servletRequest.getServletRequest().getAttribute(StudentReadFallback.STALE_ATTRIBUTE) == null) {
+            return body;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        headers.remove(HttpHeaders.ETAG);
+        headers.remove(HttpHeaders.LAST_MODIFIED);
+        headers.setCacheControl(CacheControl.noStore());
+        headers.set("Warning", STALE_WARNING);
+
+        if (body instanceof ApiResponse<?> apiResponse && apiResponse.isSuccess()) {
+            apiResponse.setMessage(apiResponse.getMessage()
+                + " (stale: the database is unavailable, served from the last known good copy)");
+        }
+        return body;
+    }
+}
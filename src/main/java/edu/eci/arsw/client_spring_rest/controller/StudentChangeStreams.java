@@ -0,0 +1,69 @@
+package edu.eci.arsw.client_spring_rest.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import edu.eci.arsw.client_spring_rest.dto.StudentChange;
+import edu.eci.arsw.client_spring_rest.service.StudentChangeFeed;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Builds the Server-Sent Events response of the student change feed, shared by the
+ * servlet and reactive controllers.
+ * Each change is an event named after its type in lower case, with the change id as event
+ * id, so a reconnecting EventSource sends it back as Last-Event-ID. The data is written as
+ * one line of JSON, as an indented document would be cut into several data fields by the
+ * servlet stack. Comment lines are sent while there are no changes, so proxies keep the
+ * connection open.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+final class StudentChangeStreams {
+
+    private StudentChangeStreams() {
+    }
+
+    /**
+     * Stream the changes after the last one a client saw.
+     *
+     * @param changeFeed the change feed
+     * @param writer writes the changes without indentation
+     * @param lastEventId the Last-Event-ID header, or null
+     * @param heartbeat the time between comment lines
+     * @return the event stream, or 503 Service Unavailable if the feed is not available
+     */
+    static ResponseEntity<Flux<ServerSentEvent<String>>> response(StudentChangeFeed changeFeed, ObjectWriter writer,
+                                                                 String lastEventId, Duration heartbeat) {
+        if (!changeFeed.isAvailable()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        Flux<ServerSentEvent<String>> changes = changeFeed.changes(lastEventId)
+            .map(change -> ServerSentEvent.builder(toJson(writer, change))
+                .id(change.getId())
+                .event(change.getType().toLowerCase(Locale.ROOT))
+                .build());
+        Flux<ServerSentEvent<String>> heartbeats = Flux.interval(heartbeat)
+            .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+            .body(changes.publish(shared -> Flux.merge(shared, heartbeats.takeUntilOther(shared.ignoreElements()))));
+    }
+
+    private static String toJson(ObjectWriter writer, StudentChange change) {
+        try {
+            return writer.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
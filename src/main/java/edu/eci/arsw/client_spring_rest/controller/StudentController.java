@@ -1,25 +1,68 @@
 package edu.eci.arsw.client_spring_rest.controller;
 
 import edu.eci.arsw.client_spring_rest.dto.ApiResponse;
+import edu.eci.arsw.client_spring_rest.dto.BatchLookupResponse;
+import edu.eci.arsw.client_spring_rest.dto.BulkCreateResponse;
+import edu.eci.arsw.client_spring_rest.dto.ImportJobStatus;
+import edu.eci.arsw.client_spring_rest.dto.PageResponse;
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
 import edu.eci.arsw.client_spring_rest.dto.StudentCreateRequest;
 import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentSuggestion;
+import edu.eci.arsw.client_spring_rest.service.StudentChangeFeed;
+import edu.eci.arsw.client_spring_rest.service.StudentCollectionGeneration;
+import edu.eci.arsw.client_spring_rest.service.StudentImportService;
+import edu.eci.arsw.client_spring_rest.service.StudentReadFallback;
 import edu.eci.arsw.client_spring_rest.service.StudentService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Flux;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for Student operations.
  * Provides endpoints for CRUD operations and student queries.
+ * Replaced by {@link ReactiveStudentController} when the "reactive" profile is active.
  * 
  * @author Generated
  * @version 1.0
@@ -28,12 +71,40 @@ import java.util.List;
 @RequestMapping("/api/students")
 @CrossOrigin(origins = "${cors.allowed.origins:http://localhost:3000}")
 @Validated
+@Profile("!reactive")
 public class StudentController {
 
+    private static final String DEFAULT_PAGE_LIMIT = "${students.pagination.default-limit:50}";
+    private static final String DEFAULT_SUGGESTION_LIMIT = "${students.autocomplete.default-limit:10}";
+
     private final StudentService studentService;
+    private final StudentImportService studentImportService;
+    private final StudentCollectionGeneration collectionGeneration;
+    private final StudentChangeFeed changeFeed;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectReader bulkEntryReader;
+    private final ObjectMapper objectMapper;
+    private final int exportFlushEvery;
+    private final Duration changesHeartbeat;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, StudentImportService studentImportService,
+                             StudentCollectionGeneration collectionGeneration,
+                             StudentChangeFeed changeFeed, ObjectMapper objectMapper,
+                             @Value("${students.export.flush-every:500}") int exportFlushEvery,
+                             @Value("${students.changes.heartbeat:15s}") Duration changesHeartbeat) {
         this.studentService = studentService;
+        this.studentImportService = studentImportService;
+        this.collectionGeneration = collectionGeneration;
+        this.changeFeed = changeFeed;
+        // NDJSON needs one document per line, so never indent regardless of the global setting,
+        // and flushing is driven by the export loop rather than by every written value
+        this.ndjsonWriter = objectMapper.writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.bulkEntryReader = objectMapper.readerFor(StudentCreateRequest.class);
+        this.objectMapper = objectMapper;
+        this.exportFlushEvery = exportFlushEvery;
+        this.changesHeartbeat = changesHeartbeat;
     }
 
     /**
@@ -53,81 +124,218 @@ public class StudentController {
     }
 
     /**
-     * Get all students.
+     * Create many students from a JSON array.
+     * 
+     * @param requests the student creation requests
+     * @return the outcome of every entry wrapped in ApiResponse
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<BulkCreateResponse>> createStudents(
+            @RequestBody @Size(max = 10000, message = "At most 10000 students per bulk request") 
+            List<StudentCreateRequest> requests) {
+        
+        return bulkResponse(studentService.createStudents(requests.iterator()));
+    }
+
+    /**
+     * Create many students from newline-delimited JSON, reading the body as it arrives.
+     * A line that is not valid JSON is reported as an invalid entry.
+     * 
+     * @param body the request body, one student creation request per line
+     * @return the outcome of every entry wrapped in ApiResponse
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponse<BulkCreateResponse>> createStudentsFromNdjson(InputStream body) 
+            throws IOException {
+        
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        Iterator<StudentCreateRequest> requests = reader.lines()
+            .filter(line -> !line.isBlank())
+            .map(this::readBulkEntry)
+            .iterator();
+        
+        return bulkResponse(studentService.createStudents(requests));
+    }
+
+    /**
+     * Import students from a CSV file sent as the request body.
+     * The file is stored as it arrives and imported by a background job.
+     * 
+     * @param body the CSV file, with a header row naming the name, email, birthDate and program columns
+     * @return 202 Accepted with the queued job, whose status is at the Location header
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<ImportJobStatus>> importStudents(InputStream body) throws IOException {
+        return importResponse(studentImportService.startImport(body));
+    }
+
+    /**
+     * Import students from a CSV file uploaded as multipart form data.
+     * 
+     * @param file the CSV file part
+     * @return 202 Accepted with the queued job, whose status is at the Location header
+     * @throws IOException if the uploaded file cannot be read
+     * @see #importStudents(InputStream)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportJobStatus>> importStudentsFromUpload(@RequestParam("file") MultipartFile file)
+            throws IOException {
+        
+        try (InputStream body = file.getInputStream()) {
+            return importResponse(studentImportService.startImport(body));
+        }
+    }
+
+    /**
+     * Get the progress of a CSV import job.
+     * 
+     * @param jobId the job id returned when the import was started
+     * @return the rows processed, created and failed, the rows per second and the row errors
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJobStatus>> getImport(@PathVariable String jobId) {
+        ImportJobStatus status = studentImportService.getImport(jobId);
+        return ResponseEntity.ok(ApiResponse.success(status, "Import job " + status.getState()));
+    }
+
+    /**
+     * Get a page of students.
      * 
-     * @return list of all students wrapped in ApiResponse
+     * @param after the cursor returned with the previous page
+     * @param limit the maximum number of students to return
+     * @param webRequest the current request, for conditional GET handling
+     * @return page of students wrapped in ApiResponse, or 304 if the collection is unchanged
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> getAllStudents() {
-        List<StudentResponse> students = studentService.getAllStudents();
-        ApiResponse<List<StudentResponse>> response = ApiResponse.success(students, 
-            "Retrieved " + students.size() + " students");
+    public ResponseEntity<ApiResponse<PageResponse<StudentResponse>>> getAllStudents(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            WebRequest webRequest) {
         
-        return ResponseEntity.ok(response);
+        return conditionalCollection(webRequest, () -> {
+            PageResponse<StudentResponse> students = studentService.getAllStudents(after, limit);
+            return ApiResponse.success(students, "Retrieved " + students.getSize() + " students");
+        });
+    }
+
+    /**
+     * Get many students by id with a single query.
+     * 
+     * @param ids the student ids, comma separated
+     * @param webRequest the current request, for conditional GET handling
+     * @return the found students in request order and the missing ids wrapped in ApiResponse,
+     *         or 304 if the collection is unchanged
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchLookupResponse>> getStudentsByIds(@RequestParam List<String> ids,
+                                                                             WebRequest webRequest) {
+        return conditionalCollection(webRequest, () -> batchResponse(studentService.getStudentsByIds(ids)));
+    }
+
+    /**
+     * Get many students by id with a single query, for id lists too long for a URL.
+     * 
+     * @param ids the student ids
+     * @return the found students in request order and the missing ids wrapped in ApiResponse
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchLookupResponse>> getStudentsByIdsFromBody(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(batchResponse(studentService.getStudentsByIds(ids)));
     }
 
     /**
      * Get student by ID.
      * 
      * @param id the student ID
-     * @return the student wrapped in ApiResponse
+     * @param webRequest the current request, for conditional GET handling
+     * @return the student wrapped in ApiResponse, or 304 if the client copy is current
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<StudentResponse>> getStudentById(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<StudentResponse>> getStudentById(@PathVariable String id, WebRequest webRequest) {
         StudentResponse student = studentService.getStudentById(id);
-        ApiResponse<StudentResponse> response = ApiResponse.success(student, "Student found");
-        
-        return ResponseEntity.ok(response);
+        return conditionalStudent(webRequest, student, "Student found");
     }
 
     /**
      * Get student by email.
      * 
      * @param email the student email
-     * @return the student wrapped in ApiResponse
+     * @param webRequest the current request, for conditional GET handling
+     * @return the student wrapped in ApiResponse, or 304 if the client copy is current
      */
     @GetMapping("/email/{email}")
     public ResponseEntity<ApiResponse<StudentResponse>> getStudentByEmail(
-            @PathVariable @Email(message = "Invalid email format") String email) {
+            @PathVariable @Email(message = "Invalid email format") String email,
+            WebRequest webRequest) {
         
         StudentResponse student = studentService.getStudentByEmail(email);
-        ApiResponse<StudentResponse> response = ApiResponse.success(student, "Student found");
-        
-        return ResponseEntity.ok(response);
+        return conditionalStudent(webRequest, student, "Student found");
     }
 
     /**
-     * Get students by program.
+     * Get a page of students by program.
      * 
      * @param program the program name
-     * @return list of students in the program wrapped in ApiResponse
+     * @param after the cursor returned with the previous page
+     * @param limit the maximum number of students to return
+     * @param webRequest the current request, for conditional GET handling
+     * @return page of students in the program wrapped in ApiResponse, or 304 if the collection is unchanged
      */
     @GetMapping("/program/{program}")
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> getStudentsByProgram(
-            @PathVariable @NotBlank(message = "Program cannot be blank") String program) {
+    public ResponseEntity<ApiResponse<PageResponse<StudentResponse>>> getStudentsByProgram(
+            @PathVariable @NotBlank(message = "Program cannot be blank") String program,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            WebRequest webRequest) {
         
-        List<StudentResponse> students = studentService.getStudentsByProgram(program);
-        ApiResponse<List<StudentResponse>> response = ApiResponse.success(students, 
-            "Found " + students.size() + " students in program: " + program);
-        
-        return ResponseEntity.ok(response);
+        return conditionalCollection(webRequest, () -> {
+            PageResponse<StudentResponse> students = studentService.getStudentsByProgram(program, after, limit);
+            return ApiResponse.success(students, 
+                "Found " + students.getSize() + " students in program: " + program);
+        });
     }
 
     /**
      * Search students by name.
      * 
      * @param name the name or partial name to search for
-     * @return list of matching students wrapped in ApiResponse
+     * @param after the cursor returned with the previous page
+     * @param limit the maximum number of students to return
+     * @param webRequest the current request, for conditional GET handling
+     * @return page of matching students wrapped in ApiResponse, or 304 if the collection is unchanged
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> searchStudentsByName(
-            @RequestParam @NotBlank(message = "Name parameter cannot be blank") String name) {
+    public ResponseEntity<ApiResponse<PageResponse<StudentResponse>>> searchStudentsByName(
+            @RequestParam @NotBlank(message = "Name parameter cannot be blank") String name,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            WebRequest webRequest) {
         
-        List<StudentResponse> students = studentService.searchStudentsByName(name);
-        ApiResponse<List<StudentResponse>> response = ApiResponse.success(students, 
-            "Found " + students.size() + " students matching: " + name);
+        return conditionalCollection(webRequest, () -> {
+            PageResponse<StudentResponse> students = studentService.searchStudentsByName(name, after, limit);
+            return ApiResponse.success(students, 
+                "Found " + students.getSize() + " students matching: " + name);
+        });
+    }
+
+    /**
+     * Suggest students for a typed prefix of their name, a word of their name, or email.
+     * Answered from memory, without touching the database, so it can run on every keystroke.
+     * 
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return the suggestions wrapped in ApiResponse
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<StudentSuggestion>>> autocomplete(
+            @RequestParam @NotBlank(message = "Prefix parameter cannot be blank") String prefix,
+            @RequestParam(defaultValue = DEFAULT_SUGGESTION_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit) {
         
-        return ResponseEntity.ok(response);
+        List<StudentSuggestion> suggestions = studentService.autocomplete(prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions, 
+            "Found " + suggestions.size() + " suggestions for: " + prefix));
     }
 
     /**
@@ -135,81 +343,191 @@ public class StudentController {
      * 
      * @param id the student ID
      * @param request the update request
+     * @param ifMatch the ETags the student must currently have, optional
      * @return the updated student wrapped in ApiResponse
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<StudentResponse>> updateStudent(
             @PathVariable String id,
-            @Valid @RequestBody StudentCreateRequest request) {
+            @Valid @RequestBody StudentCreateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+        
+        StudentResponse student = studentService.updateStudent(id, request, StudentETags.parseIfMatch(ifMatch));
+        return studentResponse(student, "Student updated successfully");
+    }
+
+    /**
+     * Partially update student information (JSON Merge Patch).
+     * Only the fields present in the body are validated and written.
+     * 
+     * @param id the student ID
+     * @param patch the merge patch document
+     * @param ifMatch the ETags the student must currently have, optional
+     * @return the updated student wrapped in ApiResponse
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<StudentResponse>> patchStudent(
+            @PathVariable String id,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
         
-        StudentResponse student = studentService.updateStudent(id, request);
-        ApiResponse<StudentResponse> response = ApiResponse.success(student, "Student updated successfully");
+        if (!patch.isObject()) {
+            throw new IllegalArgumentException("Patch must be a JSON object");
+        }
+
+        StudentCreateRequest values;
+        try {
+            values = objectMapper.treeToValue(patch, StudentCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Patch has invalid values: " + e.getOriginalMessage());
+        }
+
+        Set<String> fields = new HashSet<>();
+        patch.fieldNames().forEachRemaining(fields::add);
         
-        return ResponseEntity.ok(response);
+        StudentResponse student = studentService.patchStudent(id, values, fields, StudentETags.parseIfMatch(ifMatch));
+        return studentResponse(student, "Student updated successfully");
     }
 
     /**
      * Delete student by ID.
      * 
      * @param id the student ID
+     * @param ifMatch the ETags the student must currently have, optional
      * @return success message wrapped in ApiResponse
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteStudent(@PathVariable String id) {
-        studentService.deleteStudent(id);
+    public ResponseEntity<ApiResponse<Void>> deleteStudent(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) List<String> ifMatch) {
+        
+        studentService.deleteStudent(id, StudentETags.parseIfMatch(ifMatch));
         ApiResponse<Void> response = ApiResponse.success(null, "Student deleted successfully");
         
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Get students born between two dates.
+     * Get a page of students born between two dates.
      * 
      * @param startDate the start date (inclusive)
      * @param endDate the end date (inclusive)
-     * @return list of students born between the dates wrapped in ApiResponse
+     * @param after the cursor returned with the previous page
+     * @param limit the maximum number of students to return
+     * @param webRequest the current request, for conditional GET handling
+     * @return page of students born between the dates wrapped in ApiResponse, or 304 if the collection is unchanged
      */
     @GetMapping("/birthdate-range")
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> getStudentsByBirthDateRange(
+    public ResponseEntity<ApiResponse<PageResponse<StudentResponse>>> getStudentsByBirthDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            WebRequest webRequest) {
         
-        List<StudentResponse> students = studentService.getStudentsByBirthDateRange(startDate, endDate);
-        ApiResponse<List<StudentResponse>> response = ApiResponse.success(students, 
-            "Found " + students.size() + " students born between " + startDate + " and " + endDate);
-        
-        return ResponseEntity.ok(response);
+        return conditionalCollection(webRequest, () -> {
+            PageResponse<StudentResponse> students = studentService.getStudentsByBirthDateRange(
+                startDate, endDate, after, limit);
+            return ApiResponse.success(students, 
+                "Found " + students.getSize() + " students born between " + startDate + " and " + endDate);
+        });
     }
 
     /**
      * Get count of students by program.
      * 
      * @param program the program name
-     * @return the count wrapped in ApiResponse
+     * @param webRequest the current request, for conditional GET handling
+     * @return the count wrapped in ApiResponse, or 304 if the collection is unchanged
      */
     @GetMapping("/count/program/{program}")
     public ResponseEntity<ApiResponse<Long>> getStudentCountByProgram(
-            @PathVariable @NotBlank(message = "Program cannot be blank") String program) {
+            @PathVariable @NotBlank(message = "Program cannot be blank") String program,
+            WebRequest webRequest) {
         
-        long count = studentService.getStudentCountByProgram(program);
-        ApiResponse<Long> response = ApiResponse.success(count, 
-            "Student count for program " + program + ": " + count);
-        
-        return ResponseEntity.ok(response);
+        return conditionalCollection(webRequest, () -> {
+            long count = studentService.getStudentCountByProgram(program);
+            return ApiResponse.success(count, "Student count for program " + program + ": " + count);
+        });
+    }
+
+    /**
+     * Get statistics for every program in one request.
+     * 
+     * @param webRequest the current request, for conditional GET handling
+     * @return the count and birth date statistics of each program wrapped in ApiResponse,
+     *         or 304 if the collection is unchanged
+     */
+    @GetMapping("/stats/programs")
+    public ResponseEntity<ApiResponse<List<ProgramStats>>> getProgramStats(WebRequest webRequest) {
+        return conditionalCollection(webRequest, () -> {
+            List<ProgramStats> stats = studentService.getProgramStats();
+            return ApiResponse.success(stats, "Statistics for " + stats.size() + " programs");
+        });
     }
 
     /**
-     * Get all students ordered by name.
+     * Get a page of students ordered by name.
      * 
-     * @return list of students ordered by name wrapped in ApiResponse
+     * @param after the cursor returned with the previous page
+     * @param limit the maximum number of students to return
+     * @param webRequest the current request, for conditional GET handling
+     * @return page of students ordered by name wrapped in ApiResponse, or 304 if the collection is unchanged
      */
     @GetMapping("/ordered-by-name")
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> getAllStudentsOrderedByName() {
-        List<StudentResponse> students = studentService.getAllStudentsOrderedByName();
-        ApiResponse<List<StudentResponse>> response = ApiResponse.success(students, 
-            "Retrieved " + students.size() + " students ordered by name");
+    public ResponseEntity<ApiResponse<PageResponse<StudentResponse>>> getAllStudentsOrderedByName(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = DEFAULT_PAGE_LIMIT) @Min(value = 1, message = "Limit must be at least 1") int limit,
+            WebRequest webRequest) {
         
-        return ResponseEntity.ok(response);
+        return conditionalCollection(webRequest, () -> {
+            PageResponse<StudentResponse> students = studentService.getAllStudentsOrderedByName(after, limit);
+            return ApiResponse.success(students, 
+                "Retrieved " + students.getSize() + " students ordered by name");
+        });
+    }
+
+    /**
+     * Export students as newline-delimited JSON, optionally filtered.
+     * Students are written to the response as they are read from the database.
+     * 
+     * @param program the program name, optional
+     * @param startDate the start birth date (inclusive), optional
+     * @param endDate the end birth date (inclusive), optional
+     * @return the streamed students, one JSON document per line
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(required = false) String program,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        
+        // Validate before streaming starts, while an error response can still be sent
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        
+        StreamingResponseBody body = outputStream -> writeNdjson(outputStream, program, startDate, endDate);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Follow the changes to students as Server-Sent Events, instead of polling the list.
+     * Changes made by any instance or by scripts are included. A client reconnecting with
+     * the Last-Event-ID header gets the changes it missed while they are still kept, or a
+     * "reset" event telling it to reload.
+     * 
+     * @param lastEventId the id of the last change the client saw
+     * @return the change events, or 503 if changes cannot be followed
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        
+        return StudentChangeStreams.response(changeFeed, ndjsonWriter, lastEventId, changesHeartbeat);
     }
 
     /**
@@ -222,4 +540,108 @@ public class StudentController {
         ApiResponse<String> response = ApiResponse.success("OK", "Student service is running");
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Write the exported students to the output stream, flushing every few lines
+     * so the client receives data while the export is still running.
+     */
+    private void writeNdjson(OutputStream outputStream, String program,
+                             LocalDate startDate, LocalDate endDate) throws IOException {
+        long[] written = {0};
+        try (JsonGenerator generator = ndjsonWriter.createGenerator(outputStream)) {
+            studentService.exportStudents(program, startDate, endDate, student -> {
+                try {
+                    ndjsonWriter.writeValue(generator, student);
+                    generator.writeRaw('\n');
+                    if (++written[0] % exportFlushEvery == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Parse one NDJSON bulk entry, returning null when the line is not valid JSON.
+     */
+    private StudentCreateRequest readBulkEntry(String line) {
+        try {
+            return bulkEntryReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private ApiResponse<BatchLookupResponse> batchResponse(BatchLookupResponse result) {
+        return ApiResponse.success(result, 
+            "Found " + result.getStudents().size() + " students, " + result.getMissingIds().size() + " missing");
+    }
+
+    /**
+     * Answer a single student read, or 304 Not Modified when the client copy is current.
+     * Returning null after a successful {@code checkNotModified} lets Spring send the 304.
+     * A stale copy from the read fallback is always sent in full and without validators, which
+     * Spring would otherwise match against the request again and answer with a 304.
+     */
+    private ResponseEntity<ApiResponse<StudentResponse>> conditionalStudent(
+            WebRequest webRequest, StudentResponse student, String message) {
+        
+        if (webRequest.getAttribute(StudentReadFallback.STALE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return ResponseEntity.ok(ApiResponse.success(student, message));
+        }
+        String etag = StudentETags.forStudent(student);
+        if (etag != null && webRequest.checkNotModified(etag, StudentETags.lastModified(student))) {
+            return null;
+        }
+        return studentResponse(student, message);
+    }
+
+    /**
+     * Answer a collection read, or 304 Not Modified without running the query when no student
+     * was written since the client's copy. The generation is read before the query runs; when
+     * it may miss writes of other instances, the read is answered without validators.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> conditionalCollection(
+            WebRequest webRequest, Supplier<ApiResponse<T>> query) {
+        
+        String generation = collectionGeneration.currentForAllWriters();
+        if (generation == null) {
+            return ResponseEntity.ok(query.get());
+        }
+        String etag = StudentETags.forCollection(generation);
+        long lastModified = collectionGeneration.getLastModified();
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).lastModified(lastModified).body(query.get());
+    }
+
+    private ResponseEntity<ApiResponse<StudentResponse>> studentResponse(StudentResponse student, String message) {
+        ApiResponse<StudentResponse> response = ApiResponse.success(student, message);
+        
+        String etag = StudentETags.forStudent(student);
+        if (etag == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(etag).lastModified(StudentETags.lastModified(student)).body(response);
+    }
+
+    private ResponseEntity<ApiResponse<ImportJobStatus>> importResponse(ImportJobStatus status) {
+        return ResponseEntity.accepted()
+            .location(ServletUriComponentsBuilder.fromCurrentRequestUri().pathSegment(status.getId()).build().toUri())
+            .body(ApiResponse.success(status, "Import job queued"));
+    }
+
+    private ResponseEntity<ApiResponse<BulkCreateResponse>> bulkResponse(BulkCreateResponse result) {
+        ApiResponse<BulkCreateResponse> response = ApiResponse.success(result, 
+            "Created " + result.getCreated() + " of " + result.getTotal() + " students");
+        
+        HttpStatus status = result.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return new ResponseEntity<>(response, status);
+    }
 }
@@ -0,0 +1,86 @@
+package edu.eci.arsw.client_spring_rest.controller;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds and parses the entity tags of student resources.
+ * A student ETag is its last update time in epoch milliseconds, so an If-Match header can
+ * be turned back into an update time and checked atomically by the database write.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+final class StudentETags {
+
+    private StudentETags() {
+    }
+
+    /**
+     * Strong ETag of a single student.
+     *
+     * @param student the student
+     * @return the quoted ETag, or null if the student has no update time
+     */
+    static String forStudent(StudentResponse student) {
+        if (student.getUpdatedAt() == null) {
+            return null;
+        }
+        return "\"" + Long.toHexString(lastModified(student)) + "\"";
+    }
+
+    /**
+     * Strong ETag of a student collection view.
+     *
+     * @param generation the collection generation read before querying
+     * @return the quoted ETag
+     */
+    static String forCollection(String generation) {
+        return "\"c" + generation + "\"";
+    }
+
+    /**
+     * Last modification time of a student in epoch milliseconds.
+     */
+    static long lastModified(StudentResponse student) {
+        return student.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Turn If-Match header values into the update times they stand for.
+     *
+     * @param ifMatch the If-Match values, may be null
+     * @return the accepted update times, or null if the header is absent or "*"; weak or
+     *         foreign tags are ignored, so the list is empty when no tag can match
+     */
+    static List<LocalDateTime> parseIfMatch(List<String> ifMatch) {
+        if (ifMatch == null || ifMatch.isEmpty()) {
+            return null;
+        }
+
+        List<LocalDateTime> updatedAt = new ArrayList<>();
+        for (String value : ifMatch) {
+            for (String tag : value.split(",")) {
+                tag = tag.trim();
+                if ("*".equals(tag)) {
+                    return null;
+                }
+                // If-Match uses the strong comparison, so weak tags never match
+                if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                    try {
+                        long millis = Long.parseLong(tag.substring(1, tag.length() - 1), 16);
+                        updatedAt.add(LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()));
+                    } catch (NumberFormatException e) {
+                        // Not a student ETag, it cannot match
+                    }
+                }
+            }
+        }
+        return updatedAt;
+    }
+}
@@ -0,0 +1,50 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a multi-get of students by id.
+ * Found students come back in request order; ids without a student are listed separately.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+public class BatchLookupResponse {
+
+    private List<StudentResponse> students;
+    private List<String> missingIds;
+
+    // Default constructor
+    public BatchLookupResponse() {}
+
+    // Constructor with parameters
+    public BatchLookupResponse(List<StudentResponse> students, List<String> missingIds) {
+        this.students = students;
+        this.missingIds = missingIds;
+    }
+
+    // Getters and Setters
+    public List<StudentResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentResponse> students) {
+        this.students = students;
+    }
+
+    public List<String> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<String> missingIds) {
+        this.missingIds = missingIds;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchLookupResponse{" +
+                "students=" + students.size() +
+                ", missingIds=" + missingIds +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the result of a bulk student creation.
+ * Holds one {@link BulkItemResult} per submitted entry, in submission order.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+public class BulkCreateResponse {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<BulkItemResult> items;
+
+    // Default constructor
+    public BulkCreateResponse() {}
+
+    // Constructor with parameters
+    public BulkCreateResponse(List<BulkItemResult> items) {
+        this.items = items;
+        this.total = items.size();
+        this.created = (int) items.stream()
+            .filter(item -> item.getStatus() == BulkItemResult.Status.CREATED)
+            .count();
+        this.failed = total - created;
+    }
+
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BulkItemResult> items) {
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkCreateResponse{" +
+                "total=" + total +
+                ", created=" + created +
+                ", failed=" + failed +
+                '}';
+    }
+}
@@ -0,0 +1,105 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the outcome of one entry of a bulk student creation.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+public class BulkItemResult {
+
+    /**
+     * Outcome of a bulk entry.
+     */
+    public enum Status {
+        CREATED,
+        DUPLICATE_EMAIL,
+        INVALID
+    }
+
+    private int index;
+    private Status status;
+    private String id;
+    private String email;
+    private Map<String, String> errors;
+
+    // Default constructor
+    public BulkItemResult() {}
+
+    // Constructor with parameters
+    public BulkItemResult(int index, Status status, String id, String email, Map<String, String> errors) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.email = email;
+        this.errors = errors;
+    }
+
+    // Static factory methods for each outcome
+    public static BulkItemResult created(int index, String id, String email) {
+        return new BulkItemResult(index, Status.CREATED, id, email, null);
+    }
+
+    public static BulkItemResult duplicateEmail(int index, String email) {
+        return new BulkItemResult(index, Status.DUPLICATE_EMAIL, null, email,
+            Map.of("email", "A student with email " + email + " already exists"));
+    }
+
+    public static BulkItemResult invalid(int index, String email, Map<String, String> errors) {
+        return new BulkItemResult(index, Status.INVALID, null, email, errors);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkItemResult{" +
+                "index=" + index +
+                ", status=" + status +
+                ", id='" + id + '\'' +
+                ", email='" + email + '\'' +
+                ", errors=" + errors +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for a CSV import row that was not created.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class ImportRowError {
+
+    private long row;
+    private long line;
+    private String email;
+    private Map<String, String> errors;
+
+    // Default constructor
+    public ImportRowError() {}
+
+    // Constructor with parameters
+    public ImportRowError(long row, long line, String email, Map<String, String> errors) {
+        this.row = row;
+        this.line = line;
+        this.email = email;
+        this.errors = errors;
+    }
+
+    // Getters and Setters
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportRowError{" +
+                "row=" + row +
+                ", line=" + line +
+                ", email='" + email + '\'' +
+                ", errors=" + errors +
+                '}';
+    }
+}
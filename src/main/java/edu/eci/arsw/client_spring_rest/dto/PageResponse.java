@@ -0,0 +1,73 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of results read with keyset (cursor) pagination.
+ * The {@code nextCursor} is an opaque token to be sent back as the {@code after}
+ * parameter to fetch the following page; it is null when there are no more results.
+ *
+ * @param <T> the type of the page items
+ * @author Generated
+ * @version 1.0
+ */
+public class PageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // Default constructor
+    public PageResponse() {}
+
+    // Constructor with parameters
+    public PageResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    @Override
+    public String toString() {
+        return "PageResponse{" +
+                "size=" + size +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasNext=" + hasNext +
+                '}';
+    }
+}
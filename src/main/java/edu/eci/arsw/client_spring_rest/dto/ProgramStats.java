@@ -0,0 +1,83 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for the aggregated statistics of one program.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+public class ProgramStats {
+
+    private String program;
+    private long count;
+    private LocalDate minBirthDate;
+    private LocalDate maxBirthDate;
+    private LocalDate avgBirthDate;
+
+    // Default constructor
+    public ProgramStats() {}
+
+    // Constructor with parameters
+    public ProgramStats(String program, long count, LocalDate minBirthDate, 
+                        LocalDate maxBirthDate, LocalDate avgBirthDate) {
+        this.program = program;
+        this.count = count;
+        this.minBirthDate = minBirthDate;
+        this.maxBirthDate = maxBirthDate;
+        this.avgBirthDate = avgBirthDate;
+    }
+
+    // Getters and Setters
+    public String getProgram() {
+        return program;
+    }
+
+    public void setProgram(String program) {
+        this.program = program;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public LocalDate getMinBirthDate() {
+        return minBirthDate;
+    }
+
+    public void setMinBirthDate(LocalDate minBirthDate) {
+        this.minBirthDate = minBirthDate;
+    }
+
+    public LocalDate getMaxBirthDate() {
+        return maxBirthDate;
+    }
+
+    public void setMaxBirthDate(LocalDate maxBirthDate) {
+        this.maxBirthDate = maxBirthDate;
+    }
+
+    public LocalDate getAvgBirthDate() {
+        return avgBirthDate;
+    }
+
+    public void setAvgBirthDate(LocalDate avgBirthDate) {
+        this.avgBirthDate = avgBirthDate;
+    }
+
+    @Override
+    public String toString() {
+        return "ProgramStats{" +
+                "program='" + program + '\'' +
+                ", count=" + count +
+                ", minBirthDate=" + minBirthDate +
+                ", maxBirthDate=" + maxBirthDate +
+                ", avgBirthDate=" + avgBirthDate +
+                '}';
+    }
+}
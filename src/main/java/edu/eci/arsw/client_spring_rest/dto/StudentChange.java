@@ -0,0 +1,79 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+/**
+ * Data Transfer Object for one entry of the student change feed.
+ * The type is CREATED, UPDATED or DELETED, or RESET when changes may have been missed
+ * and the client should reload what it shows.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentChange {
+
+    public static final String RESET = "RESET";
+
+    private String id;
+    private String type;
+    private String studentId;
+    private StudentResponse student;
+
+    // Default constructor
+    public StudentChange() {}
+
+    // Constructor with parameters
+    public StudentChange(String id, String type, String studentId, StudentResponse student) {
+        this.id = id;
+        this.type = type;
+        this.studentId = studentId;
+        this.student = student;
+    }
+
+    /**
+     * Create the entry telling a client that changes may have been missed.
+     */
+    public static StudentChange reset() {
+        return new StudentChange(null, RESET, null, null);
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(String studentId) {
+        this.studentId = studentId;
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public void setStudent(StudentResponse student) {
+        this.student = student;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentChange{" +
+                "id='" + id + '\'' +
+                ", type='" + type + '\'' +
+                ", studentId='" + studentId + '\'' +
+                '}';
+    }
+}
@@ -29,6 +29,9 @@ public class StudentCreateRequest {
     @NotBlank(message = "Program is required")
     private String program;
 
+    // Expected version for updates (optimistic locking), ignored on creation
+    private Long version;
+
     // Default constructor
     public StudentCreateRequest() {}
 
@@ -73,6 +76,14 @@ public class StudentCreateRequest {
         this.program = program;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "StudentCreateRequest{" +
@@ -80,6 +91,7 @@ public class StudentCreateRequest {
                 ", email='" + email + '\'' +
                 ", birthDate=" + birthDate +
                 ", program='" + program + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
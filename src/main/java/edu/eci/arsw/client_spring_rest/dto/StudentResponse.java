@@ -19,6 +19,7 @@ public class StudentResponse {
     private String program;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     // Default constructor
     public StudentResponse() {}
@@ -35,6 +36,13 @@ public class StudentResponse {
         this.updatedAt = updatedAt;
     }
 
+    // Constructor with parameters including the optimistic locking version
+    public StudentResponse(String id, String name, String email, LocalDate birthDate, 
+                          String program, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, name, email, birthDate, program, createdAt, updatedAt);
+        this.version = version;
+    }
+
     // Getters and Setters
     public String getId() {
         return id;
@@ -92,6 +100,14 @@ public class StudentResponse {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "StudentResponse{" +
@@ -102,6 +118,7 @@ public class StudentResponse {
                 ", program='" + program + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
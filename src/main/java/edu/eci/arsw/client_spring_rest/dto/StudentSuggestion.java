@@ -0,0 +1,59 @@
+package edu.eci.arsw.client_spring_rest.dto;
+
+/**
+ * Data Transfer Object for one autocomplete suggestion.
+ * Carries just enough to show a student in a picker and fetch it by id.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentSuggestion {
+
+    private String id;
+    private String name;
+    private String email;
+
+    // Default constructor
+    public StudentSuggestion() {}
+
+    // Constructor with parameters
+    public StudentSuggestion(String id, String name, String email) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentSuggestion{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", email='" + email + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,25 @@
+package edu.eci.arsw.client_spring_rest.exception;
+
+/**
+ * Exception thrown without calling the database while the circuit breaker in front of it
+ * is open. Mapped to 503 Service Unavailable with a Retry-After header.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class DatabaseUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public DatabaseUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Get the number of seconds until the database is tried again.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
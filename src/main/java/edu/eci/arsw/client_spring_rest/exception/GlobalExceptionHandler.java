@@ -1,13 +1,17 @@
 package edu.eci.arsw.client_spring_rest.exception;
 
 import edu.eci.arsw.client_spring_rest.dto.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.server.ServerWebInputException;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -18,6 +22,7 @@ import java.util.Set;
 /**
  * Global exception handler for the application.
  * Handles all exceptions and returns appropriate API responses.
+ * Applies to both the servlet and the reactive ("reactive" profile) controllers.
  * 
  * @author Generated
  * @version 1.0
@@ -30,7 +35,18 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(StudentNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleStudentNotFoundException(
-            StudentNotFoundException ex, WebRequest request) {
+            StudentNotFoundException ex) {
+        
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle ImportJobNotFoundException.
+     */
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleImportJobNotFoundException(
+            ImportJobNotFoundException ex) {
         
         ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
@@ -41,12 +57,56 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<ApiResponse<Void>> handleDuplicateEmailException(
-            DuplicateEmailException ex, WebRequest request) {
+            DuplicateEmailException ex) {
+        
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handle StudentVersionConflictException.
+     */
+    @ExceptionHandler(StudentVersionConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleStudentVersionConflictException(
+            StudentVersionConflictException ex) {
         
         ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handle StudentPreconditionFailedException.
+     */
+    @ExceptionHandler(StudentPreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleStudentPreconditionFailedException(
+            StudentPreconditionFailedException ex) {
+        
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handle ServiceOverloadedException, telling the client when to retry.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(response);
+    }
+
+    /**
+     * Handle DatabaseUnavailableException, telling the client when the database is tried again.
+     */
+    @ExceptionHandler(DatabaseUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDatabaseUnavailableException(DatabaseUnavailableException ex) {
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(response);
+    }
+
     /**
      * Handle validation errors from @Valid annotation.
      */
@@ -54,8 +114,31 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
         
+        return validationFailed(ex.getBindingResult());
+    }
+
+    /**
+     * Handle validation errors from @Valid annotation on reactive controllers.
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleWebExchangeBindException(
+            WebExchangeBindException ex) {
+        
+        return validationFailed(ex.getBindingResult());
+    }
+
+    /**
+     * Handle unreadable requests and bad parameters on reactive controllers.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServerWebInputException(ServerWebInputException ex) {
+        ApiResponse<Void> response = ApiResponse.error("Invalid argument: " + ex.getReason());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, String>>> validationFailed(BindingResult bindingResult) {
         Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
+        bindingResult.getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
@@ -89,12 +172,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle uploads larger than the multipart limits.
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex) {
+        
+        ApiResponse<Void> response = ApiResponse.error("Uploaded file is too large");
+        return new ResponseEntity<>(response, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     /**
      * Handle IllegalArgumentException.
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiResponse<Void>> handleIllegalArgumentException(
-            IllegalArgumentException ex, WebRequest request) {
+            IllegalArgumentException ex) {
         
         ApiResponse<Void> response = ApiResponse.error("Invalid argument: " + ex.getMessage());
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
@@ -105,7 +199,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGlobalException(
-            Exception ex, WebRequest request) {
+            Exception ex) {
         
         // Log the exception for debugging
         ex.printStackTrace();
@@ -120,7 +214,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(org.springframework.dao.DataAccessException.class)
     public ResponseEntity<ApiResponse<Void>> handleDataAccessException(
-            org.springframework.dao.DataAccessException ex, WebRequest request) {
+            org.springframework.dao.DataAccessException ex) {
         
         ApiResponse<Void> response = ApiResponse.error(
             "Database connection error. Please try again later.");
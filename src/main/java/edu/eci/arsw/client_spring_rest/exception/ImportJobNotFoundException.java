@@ -0,0 +1,14 @@
+package edu.eci.arsw.client_spring_rest.exception;
+
+/**
+ * Exception thrown when a student import job is unknown or no longer kept.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
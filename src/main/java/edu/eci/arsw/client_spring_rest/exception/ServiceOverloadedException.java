@@ -0,0 +1,19 @@
+package edu.eci.arsw.client_spring_rest.exception;
+
+/**
+ * Exception thrown when a request is shed because the service is at its concurrency limit.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
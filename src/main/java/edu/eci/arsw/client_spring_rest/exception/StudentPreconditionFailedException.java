@@ -0,0 +1,18 @@
+package edu.eci.arsw.client_spring_rest.exception;
+
+/**
+ * Exception thrown when a conditional write (If-Match) does not match the current state of a student.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentPreconditionFailedException extends RuntimeException {
+
+    public StudentPreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public StudentPreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
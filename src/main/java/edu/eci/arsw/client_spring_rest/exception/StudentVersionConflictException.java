@@ -0,0 +1,18 @@
+package edu.eci.arsw.client_spring_rest.exception;
+
+/**
+ * Exception thrown when a student was modified by someone else since the version the client expected.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentVersionConflictException extends RuntimeException {
+
+    public StudentVersionConflictException(String message) {
+        super(message);
+    }
+
+    public StudentVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
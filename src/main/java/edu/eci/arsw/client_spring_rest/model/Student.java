@@ -1,6 +1,9 @@
 package edu.eci.arsw.client_spring_rest.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -14,22 +17,26 @@ import java.time.LocalDateTime;
 /**
  * Student entity representing a student in the system.
  * This class is mapped to the "students" collection in MongoDB.
+ * The declared indexes are created and verified at startup by StudentIndexManager.
  * 
  * @author Generated
  * @version 1.0
  */
 @Document(collection = "students")
+@CompoundIndex(name = "program_birth_date", def = "{ 'program': 1, 'birth_date': 1 }")
 public class Student {
 
     @Id
     private String id;
 
     @NotBlank(message = "Name is required")
+    @Indexed(name = "name_asc")
     @Field("name")
     private String name;
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
+    @Indexed(name = "email_unique", unique = true)
     @Field("email")
     private String email;
 
@@ -48,10 +55,15 @@ public class Student {
     @Field("updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Field("version")
+    private Long version;
+
     // Default constructor
     public Student() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
     }
 
     // Constructor with parameters
@@ -124,6 +136,14 @@ public class Student {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Student{" +
@@ -134,6 +154,7 @@ public class Student {
                 ", program='" + program + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 
@@ -0,0 +1,1109 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import org.bson.types.ObjectId;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of {@link StudentRepository}, selected with the "in-memory" profile
+ * to run without MongoDB, or as a fast store for read-heavy deployments whose data fits in memory.
+ *
+ * <p>Students are kept by id in a sorted map, so id ordered pages are range scans, with
+ * secondary indexes mirroring the MongoDB ones: a unique hash index on email, a multimap from
+ * program to ids, and navigable indexes on birth date and on name.</p>
+ *
+ * <p>Writes to different students run in parallel under lock stripes chosen by id; a write
+ * then publishes the new version to every index at once under a short exclusive commit.
+ * Reads are optimistic and are retried under the shared commit lock if a write was published
+ * meanwhile, so a read never sees a write applied to some indexes and not others.</p>
+ *
+ * <p>Stored students are private copies with millisecond dates, as MongoDB stores them, so
+ * update times round-trip through ETags the same way. Queries by example scan every student.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Repository
+@Profile("in-memory")
+public class InMemoryStudentRepository implements StudentRepository {
+
+    // Stands in for null in the hash indexes, which do not accept null keys; like a MongoDB
+    // unique index, the email index then allows a single student without email
+    private static final Object NULL_KEY = new Object();
+
+    // Properties compared by queries by example, in declaration order
+    private static final List<String> EXAMPLE_PROPERTIES = List.of(
+        "id", "name", "email", "birthDate", "program", "createdAt", "updatedAt", "version");
+
+    private final ConcurrentSkipListMap<String, Student> documents = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Object, String> emailIndex = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, NavigableSet<String>> programIndex = new ConcurrentHashMap<>();
+    // Ids of each birth date kept sorted, so id-ordered range pages merge the dates from the cursor;
+    // students without a birth date are left out, as no date range matches them
+    private final ConcurrentSkipListMap<LocalDate, NavigableSet<String>> birthDateIndex = new ConcurrentSkipListMap<>();
+    private final NavigableSet<IndexEntry<String>> nameIndex = new ConcurrentSkipListSet<>(IndexEntry.order());
+
+    private final ReentrantLock[] stripes;
+    private final StampedLock commitLock = new StampedLock();
+
+    public InMemoryStudentRepository(@Value("${students.in-memory.lock-stripes:64}") int lockStripes) {
+        if (lockStripes < 1) {
+            throw new IllegalArgumentException("students.in-memory.lock-stripes must be at least 1");
+        }
+        this.stripes = new ReentrantLock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // Writes
+
+    @Override
+    public <S extends Student> S insert(S entity) {
+        if (entity.getId() == null) {
+            entity.setId(new ObjectId().toHexString());
+        }
+        String id = entity.getId();
+        Long version = entity.getVersion() != null ? entity.getVersion() : 0L;
+
+        withStripe(id, () -> {
+            if (documents.containsKey(id)) {
+                throw new DuplicateKeyException("Duplicate key on _id: " + id);
+            }
+            commit(null, copyOf(entity, version));
+            return null;
+        });
+        entity.setVersion(version);
+        return entity;
+    }
+
+    @Override
+    public <S extends Student> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        for (S entity : entities) {
+            inserted.add(insert(entity));
+        }
+        return inserted;
+    }
+
+    @Override
+    public <S extends Student> S save(S entity) {
+        // Same rule as MongoTemplate for versioned entities: no version means a new student
+        if (entity.getVersion() == null || entity.getId() == null) {
+            return insert(entity);
+        }
+        String id = entity.getId();
+        long version = entity.getVersion() + 1;
+
+        withStripe(id, () -> {
+            Student current = documents.get(id);
+            if (current == null || !entity.getVersion().equals(current.getVersion())) {
+                throw new OptimisticLockingFailureException("Student with id " + id
+                    + " and version " + entity.getVersion() + " was not found");
+            }
+            commit(current, copyOf(entity, version));
+            return null;
+        });
+        entity.setVersion(version);
+        return entity;
+    }
+
+    @Override
+    public <S extends Student> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public Set<Integer> insertAllUnordered(List<Student> students) {
+        StudentQueries.prepareInserts(students);
+
+        // Every student is attempted, as in an unordered bulk write
+        Set<Integer> duplicates = new HashSet<>();
+        for (int i = 0; i < students.size(); i++) {
+            try {
+                insert(students.get(i));
+            } catch (DuplicateKeyException e) {
+                duplicates.add(i);
+            }
+        }
+        return duplicates;
+    }
+
+    @Override
+    public Optional<Student> updateFields(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt,
+                                          Map<String, Object> fields) {
+        return withStripe(id, () -> {
+            Student current = documents.get(id);
+            if (current == null || !matches(current, expectedVersion, expectedUpdatedAt)) {
+                return Optional.empty();
+            }
+
+            Student next = copyOf(current, current.getVersion() != null ? current.getVersion() + 1 : 1L);
+            // Direct field access, so the entity setters do not touch updatedAt
+            PropertyAccessorFactory.forDirectFieldAccess(next).setPropertyValues(fields);
+            next.setUpdatedAt(truncate(next.getUpdatedAt()));
+
+            commit(current, next);
+            return Optional.of(copyOf(current, current.getVersion()));
+        });
+    }
+
+    @Override
+    public Optional<Student> findAndRemoveById(String id, Collection<LocalDateTime> expectedUpdatedAt) {
+        return withStripe(id, () -> {
+            Student current = documents.get(id);
+            if (current == null || !matches(current, null, expectedUpdatedAt)) {
+                return Optional.empty();
+            }
+            commit(current, null);
+            return Optional.of(copyOf(current, current.getVersion()));
+        });
+    }
+
+    @Override
+    public void deleteById(String id) {
+        withStripe(id, () -> {
+            Student current = documents.get(id);
+            if (current != null) {
+                commit(current, null);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(Student entity) {
+        String id = entity.getId();
+        withStripe(id, () -> {
+            Student current = documents.get(id);
+            if (entity.getVersion() != null
+                    && (current == null || !entity.getVersion().equals(current.getVersion()))) {
+                throw new OptimisticLockingFailureException("Student with id " + id
+                    + " and version " + entity.getVersion() + " was not found");
+            }
+            if (current != null) {
+                commit(current, null);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        for (String id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Student> entities) {
+        for (Student entity : entities) {
+            delete(entity);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        withAllStripes(() -> {
+            long stamp = commitLock.writeLock();
+            try {
+                documents.clear();
+                emailIndex.clear();
+                programIndex.clear();
+                birthDateIndex.clear();
+                nameIndex.clear();
+            } finally {
+                commitLock.unlockWrite(stamp);
+            }
+        });
+    }
+
+    @Override
+    public long deleteByProgram(String program) {
+        long[] deleted = new long[1];
+        withAllStripes(() -> {
+            long stamp = commitLock.writeLock();
+            try {
+                NavigableSet<String> ids = programIndex.get(indexKey(program));
+                if (ids == null) {
+                    return;
+                }
+                for (String id : new ArrayList<>(ids)) {
+                    unindex(documents.remove(id));
+                    deleted[0]++;
+                }
+            } finally {
+                commitLock.unlockWrite(stamp);
+            }
+        });
+        return deleted[0];
+    }
+
+    // Single student reads
+
+    @Override
+    public Optional<Student> findById(String id) {
+        Student student = documents.get(id);
+        return student != null ? Optional.of(copyOf(student, student.getVersion())) : Optional.empty();
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return documents.containsKey(id);
+    }
+
+    @Override
+    public Optional<Student> findByEmail(String email) {
+        return read(() -> {
+            String id = emailIndex.get(indexKey(email));
+            Student student = id != null ? documents.get(id) : null;
+            return student != null ? Optional.of(copyOf(student, student.getVersion())) : Optional.empty();
+        });
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return read(() -> emailIndex.containsKey(indexKey(email)));
+    }
+
+    @Override
+    public List<Student> findByEmailIn(Collection<String> emails) {
+        return read(() -> {
+            List<Student> found = new ArrayList<>();
+            for (String email : new LinkedHashSet<>(emails)) {
+                String id = emailIndex.get(indexKey(email));
+                Student student = id != null ? documents.get(id) : null;
+                if (student != null) {
+                    found.add(copyOf(student, student.getVersion()));
+                }
+            }
+            return found;
+        });
+    }
+
+    // Keyset pages and projected reads
+
+    @Override
+    public List<StudentResponse> findAllAfter(String afterId, int limit) {
+        return read(() -> {
+            Collection<Student> candidates = afterId != null
+                ? documents.tailMap(afterId, false).values()
+                : documents.values();
+            List<StudentResponse> page = new ArrayList<>(Math.min(limit, 64));
+            for (Student student : candidates) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                page.add(toResponse(student));
+            }
+            return page;
+        });
+    }
+
+    @Override
+    public List<StudentResponse> findByProgramAfter(String program, String afterId, int limit) {
+        return read(() -> {
+            NavigableSet<String> ids = programIndex.get(indexKey(program));
+            if (ids == null) {
+                return new ArrayList<>();
+            }
+            List<StudentResponse> page = new ArrayList<>(Math.min(limit, 64));
+            for (String id : afterId != null ? ids.tailSet(afterId, false) : ids) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                Student student = documents.get(id);
+                if (student != null) {
+                    page.add(toResponse(student));
+                }
+            }
+            return page;
+        });
+    }
+
+    @Override
+    public List<StudentResponse> findByNameContainingIgnoreCaseAfter(String name, String afterId, int limit) {
+        String needle = name.toLowerCase(Locale.ROOT);
+        return read(() -> {
+            // A substring match cannot use the name index, scan in id order as MongoDB does for the regex
+            Collection<Student> candidates = afterId != null
+                ? documents.tailMap(afterId, false).values()
+                : documents.values();
+            List<StudentResponse> page = new ArrayList<>(Math.min(limit, 64));
+            for (Student student : candidates) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                if (containsIgnoreCase(student.getName(), needle)) {
+                    page.add(toResponse(student));
+                }
+            }
+            return page;
+        });
+    }
+
+    @Override
+    public List<StudentResponse> findByBirthDateBetweenAfter(LocalDate startDate, LocalDate endDate,
+                                                     String afterId, int limit) {
+        return read(() -> {
+            // Merge the id-sorted dates of the range from the cursor on, stopping once the page is full
+            PriorityQueue<IdCursor> cursors = new PriorityQueue<>(Comparator.comparing(IdCursor::id));
+            for (NavigableSet<String> ids : birthDateRange(startDate, endDate)) {
+                Iterator<String> rest = (afterId != null ? ids.tailSet(afterId, false) : ids).iterator();
+                if (rest.hasNext()) {
+                    cursors.add(new IdCursor(rest.next(), rest));
+                }
+            }
+            List<StudentResponse> page = new ArrayList<>(Math.min(limit, 64));
+            while (page.size() < limit && !cursors.isEmpty()) {
+                IdCursor cursor = cursors.poll();
+                Student student = documents.get(cursor.id());
+                if (student != null) {
+                    page.add(toResponse(student));
+                }
+                if (cursor.rest().hasNext()) {
+                    cursors.add(new IdCursor(cursor.rest().next(), cursor.rest()));
+                }
+            }
+            return page;
+        });
+    }
+
+    @Override
+    public List<StudentResponse> findAllOrderByNameAfter(String afterName, String afterId, int limit) {
+        return read(() -> {
+            NavigableSet<IndexEntry<String>> entries = afterName != null && afterId != null
+                ? nameIndex.tailSet(new IndexEntry<>(afterName, afterId), false)
+                : nameIndex;
+            List<StudentResponse> page = new ArrayList<>(Math.min(limit, 64));
+            for (IndexEntry<String> entry : entries) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                Student student = documents.get(entry.id());
+                if (student != null) {
+                    page.add(toResponse(student));
+                }
+            }
+            return page;
+        });
+    }
+
+    @Override
+    public List<StudentResponse> findByIdIn(Collection<String> ids) {
+        return read(() -> {
+            List<StudentResponse> found = new ArrayList<>(ids.size());
+            for (String id : new LinkedHashSet<>(ids)) {
+                Student student = documents.get(id);
+                if (student != null) {
+                    found.add(toResponse(student));
+                }
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public Stream<StudentResponse> streamByFilter(String program, LocalDate startDate, LocalDate endDate) {
+        // The export reads one snapshot, which stays valid while the response is written
+        List<StudentResponse> snapshot = read(() -> {
+            Collection<Student> candidates;
+            if (program != null) {
+                NavigableSet<String> ids = programIndex.getOrDefault(indexKey(program), new ConcurrentSkipListSet<>());
+                candidates = new ArrayList<>(ids.size());
+                for (String id : ids) {
+                    Student student = documents.get(id);
+                    if (student != null) {
+                        candidates.add(student);
+                    }
+                }
+            } else {
+                candidates = documents.values();
+            }
+
+            List<StudentResponse> students = new ArrayList<>();
+            for (Student student : candidates) {
+                if (bornBetween(student, startDate, endDate)) {
+                    students.add(toResponse(student));
+                }
+            }
+            return students;
+        });
+        return snapshot.stream();
+    }
+
+    @Override
+    public List<ProgramStats> aggregateProgramStats() {
+        return read(() -> {
+            List<ProgramStats> stats = new ArrayList<>(programIndex.size());
+            for (Map.Entry<Object, NavigableSet<String>> program : programIndex.entrySet()) {
+                long count = 0;
+                long birthDates = 0;
+                long sumBirthDateMillis = 0;
+                LocalDate min = null;
+                LocalDate max = null;
+                for (String id : program.getValue()) {
+                    Student student = documents.get(id);
+                    if (student == null) {
+                        continue;
+                    }
+                    count++;
+                    LocalDate birthDate = student.getBirthDate();
+                    if (birthDate != null) {
+                        birthDates++;
+                        // Averaged as epoch milliseconds of the stored dates, like the aggregation pipeline
+                        sumBirthDateMillis += birthDate.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                        min = min == null || birthDate.isBefore(min) ? birthDate : min;
+                        max = max == null || birthDate.isAfter(max) ? birthDate : max;
+                    }
+                }
+                if (count == 0) {
+                    continue;
+                }
+                LocalDate avg = birthDates > 0
+                    ? LocalDate.ofInstant(Instant.ofEpochMilli(sumBirthDateMillis / birthDates), ZoneId.systemDefault())
+                    : null;
+                String name = program.getKey() == NULL_KEY ? null : (String) program.getKey();
+                stats.add(new ProgramStats(name, count, min, max, avg));
+            }
+            stats.sort(Comparator.comparing(ProgramStats::getProgram, Comparator.nullsFirst(Comparator.naturalOrder())));
+            return stats;
+        });
+    }
+
+    // Derived queries
+
+    @Override
+    public List<Student> findByProgram(String program) {
+        return read(() -> {
+            List<Student> students = new ArrayList<>();
+            for (String id : programIndex.getOrDefault(indexKey(program), new ConcurrentSkipListSet<>())) {
+                Student student = documents.get(id);
+                if (student != null) {
+                    students.add(copyOf(student, student.getVersion()));
+                }
+            }
+            return students;
+        });
+    }
+
+    @Override
+    public List<Student> findByNameContainingIgnoreCase(String name) {
+        String needle = name.toLowerCase(Locale.ROOT);
+        return read(() -> {
+            List<Student> students = new ArrayList<>();
+            for (Student student : documents.values()) {
+                if (containsIgnoreCase(student.getName(), needle)) {
+                    students.add(copyOf(student, student.getVersion()));
+                }
+            }
+            return students;
+        });
+    }
+
+    @Override
+    public List<Student> findByBirthDateBetween(LocalDate startDate, LocalDate endDate) {
+        return read(() -> {
+            List<Student> students = new ArrayList<>();
+            for (NavigableSet<String> ids : birthDateRange(startDate, endDate)) {
+                for (String id : ids) {
+                    Student student = documents.get(id);
+                    if (student != null) {
+                        students.add(copyOf(student, student.getVersion()));
+                    }
+                }
+            }
+            return students;
+        });
+    }
+
+    @Override
+    public long countByProgram(String program) {
+        return read(() -> {
+            NavigableSet<String> ids = programIndex.get(indexKey(program));
+            return ids != null ? (long) ids.size() : 0L;
+        });
+    }
+
+    @Override
+    public List<Student> findAllOrderByName() {
+        return read(() -> {
+            List<Student> students = new ArrayList<>();
+            for (IndexEntry<String> entry : nameIndex) {
+                Student student = documents.get(entry.id());
+                if (student != null) {
+                    students.add(copyOf(student, student.getVersion()));
+                }
+            }
+            return students;
+        });
+    }
+
+    @Override
+    public List<Student> findByProgramOrderByBirthDateDesc(String program) {
+        List<Student> students = findByProgram(program);
+        students.sort(Comparator.comparing(Student::getBirthDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .reversed());
+        return students;
+    }
+
+    // Generic repository reads
+
+    @Override
+    public List<Student> findAll() {
+        return read(() -> {
+            List<Student> students = new ArrayList<>(documents.size());
+            for (Student student : documents.values()) {
+                students.add(copyOf(student, student.getVersion()));
+            }
+            return students;
+        });
+    }
+
+    @Override
+    public List<Student> findAll(Sort sort) {
+        List<Student> students = findAll();
+        if (sort.isSorted()) {
+            students.sort(comparator(sort));
+        }
+        return students;
+    }
+
+    @Override
+    public Page<Student> findAll(Pageable pageable) {
+        return page(findAll(pageable.getSort()), pageable);
+    }
+
+    @Override
+    public List<Student> findAllById(Iterable<String> ids) {
+        return read(() -> {
+            List<Student> students = new ArrayList<>();
+            for (String id : ids) {
+                Student student = documents.get(id);
+                if (student != null) {
+                    students.add(copyOf(student, student.getVersion()));
+                }
+            }
+            return students;
+        });
+    }
+
+    @Override
+    public long count() {
+        return documents.size();
+    }
+
+    // Query by example, answered with a scan of every student
+
+    @Override
+    public <S extends Student> Optional<S> findOne(Example<S> example) {
+        List<S> found = findAll(example);
+        if (found.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, found.size());
+        }
+        return found.stream().findFirst();
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example) {
+        Predicate<Student> matches = matcherOf(example);
+        return read(() -> {
+            List<S> students = new ArrayList<>();
+            for (Student student : documents.values()) {
+                if (matches.test(student)) {
+                    students.add(example.getProbeType().cast(copyOf(student, student.getVersion())));
+                }
+            }
+            return students;
+        });
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example, Sort sort) {
+        List<S> students = findAll(example);
+        if (sort.isSorted()) {
+            students.sort(comparator(sort));
+        }
+        return students;
+    }
+
+    @Override
+    public <S extends Student> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return page(findAll(example, pageable.getSort()), pageable);
+    }
+
+    @Override
+    public <S extends Student> long count(Example<S> example) {
+        Predicate<Student> matches = matcherOf(example);
+        return read(() -> documents.values().stream().filter(matches).count());
+    }
+
+    @Override
+    public <S extends Student> boolean exists(Example<S> example) {
+        Predicate<Student> matches = matcherOf(example);
+        return read(() -> documents.values().stream().anyMatch(matches));
+    }
+
+    @Override
+    public <S extends Student, R> R findBy(Example<S> example,
+                                           Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(findAll(example), Sort.unsorted(), 0, example.getProbeType()));
+    }
+
+    // Locking and indexes
+
+    /**
+     * Run a write holding the lock stripe of the student id, so writes to the same student
+     * are serialized while writes to other students go on in parallel.
+     */
+    private <T> T withStripe(String id, Supplier<T> write) {
+        ReentrantLock stripe = stripes[Math.floorMod(Objects.hashCode(id), stripes.length)];
+        stripe.lock();
+        try {
+            return write.get();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Run a write over many students holding every lock stripe, always taken in the same order.
+     */
+    private void withAllStripes(Runnable write) {
+        int locked = 0;
+        try {
+            for (ReentrantLock stripe : stripes) {
+                stripe.lock();
+                locked++;
+            }
+            write.run();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Run a read against a consistent snapshot of the documents and indexes.
+     * The read first runs without locking; if a write was committed meanwhile, its result
+     * may mix two states, so it is discarded and the read runs again under the read lock.
+     * The concurrent collections never fail on concurrent changes, and reads skip index
+     * entries whose document is gone, so an optimistic read can only be stale, never broken.
+     */
+    private <T> T read(Supplier<T> query) {
+        long stamp = commitLock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T result = query.get();
+                if (commitLock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (commitLock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = commitLock.readLock();
+        try {
+            return query.get();
+        } finally {
+            commitLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Replace the stored version of a student in the documents and every index at once.
+     * Must be called holding the lock stripe of the student.
+     *
+     * @param previous the stored version being replaced, or null for an insert
+     * @param next the new version, or null for a delete
+     * @throws DuplicateKeyException if the new email belongs to another student
+     */
+    private void commit(Student previous, Student next) {
+        long stamp = commitLock.writeLock();
+        try {
+            if (next != null) {
+                String owner = emailIndex.get(indexKey(next.getEmail()));
+                if (owner != null && !owner.equals(next.getId())) {
+                    throw new DuplicateKeyException("Duplicate key on email_unique: " + next.getEmail());
+                }
+            }
+            if (previous != null) {
+                unindex(previous);
+            }
+            // Replace in place, so lookups by id that skip the commit lock never miss an updated student
+            if (next != null) {
+                documents.put(next.getId(), next);
+                index(next);
+            } else {
+                documents.remove(previous.getId());
+            }
+        } finally {
+            commitLock.unlockWrite(stamp);
+        }
+    }
+
+    private void index(Student student) {
+        emailIndex.put(indexKey(student.getEmail()), student.getId());
+        programIndex.computeIfAbsent(indexKey(student.getProgram()), key -> new ConcurrentSkipListSet<>())
+            .add(student.getId());
+        if (student.getBirthDate() != null) {
+            birthDateIndex.computeIfAbsent(student.getBirthDate(), key -> new ConcurrentSkipListSet<>())
+                .add(student.getId());
+        }
+        nameIndex.add(new IndexEntry<>(student.getName(), student.getId()));
+    }
+
+    private void unindex(Student student) {
+        emailIndex.remove(indexKey(student.getEmail()), student.getId());
+        Object programKey = indexKey(student.getProgram());
+        NavigableSet<String> programIds = programIndex.get(programKey);
+        if (programIds != null) {
+            programIds.remove(student.getId());
+            if (programIds.isEmpty()) {
+                programIndex.remove(programKey);
+            }
+        }
+        NavigableSet<String> birthDateIds = student.getBirthDate() != null
+            ? birthDateIndex.get(student.getBirthDate())
+            : null;
+        if (birthDateIds != null) {
+            birthDateIds.remove(student.getId());
+            if (birthDateIds.isEmpty()) {
+                birthDateIndex.remove(student.getBirthDate());
+            }
+        }
+        nameIndex.remove(new IndexEntry<>(student.getName(), student.getId()));
+    }
+
+    /**
+     * Ids of the students born between two dates (inclusive), one id-sorted set per birth date,
+     * in birth date order. A null date leaves that end of the range open.
+     */
+    private Collection<NavigableSet<String>> birthDateRange(LocalDate startDate, LocalDate endDate) {
+        NavigableMap<LocalDate, NavigableSet<String>> range = startDate != null
+            ? birthDateIndex.tailMap(startDate, true)
+            : birthDateIndex;
+        return (endDate != null ? range.headMap(endDate, true) : range).values();
+    }
+
+    private static boolean matches(Student student, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt) {
+        if (expectedVersion != null && !expectedVersion.equals(student.getVersion())) {
+            return false;
+        }
+        if (expectedUpdatedAt != null) {
+            for (LocalDateTime updatedAt : expectedUpdatedAt) {
+                if (updatedAt != null && truncate(updatedAt).equals(student.getUpdatedAt())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean bornBetween(Student student, LocalDate startDate, LocalDate endDate) {
+        LocalDate birthDate = student.getBirthDate();
+        if (startDate != null && (birthDate == null || birthDate.isBefore(startDate))) {
+            return false;
+        }
+        return endDate == null || (birthDate != null && !birthDate.isAfter(endDate));
+    }
+
+    private static boolean containsIgnoreCase(String value, String lowerCaseNeedle) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerCaseNeedle);
+    }
+
+    private static Object indexKey(Object value) {
+        return value != null ? value : NULL_KEY;
+    }
+
+    /**
+     * Copy a student so stored versions are never shared with callers.
+     * Dates are kept with millisecond precision, as MongoDB stores them.
+     */
+    private static Student copyOf(Student student, Long version) {
+        Student copy = new Student(student.getName(), student.getEmail(), student.getBirthDate(), student.getProgram());
+        copy.setId(student.getId());
+        copy.setCreatedAt(truncate(student.getCreatedAt()));
+        copy.setUpdatedAt(truncate(student.getUpdatedAt()));
+        copy.setVersion(version);
+        return copy;
+    }
+
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.truncatedTo(ChronoUnit.MILLIS) : null;
+    }
+
+    private static StudentResponse toResponse(Student student) {
+        return new StudentResponse(
+            student.getId(),
+            student.getName(),
+            student.getEmail(),
+            student.getBirthDate(),
+            student.getProgram(),
+            student.getCreatedAt(),
+            student.getUpdatedAt(),
+            student.getVersion()
+        );
+    }
+
+    private static Comparator<Student> comparator(Sort sort) {
+        Comparator<Student> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Student> byProperty = Comparator.comparing(
+                (Student student) -> sortKey(student, order.getProperty()),
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                byProperty = byProperty.reversed();
+            }
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> sortKey(Student student, String property) {
+        return (Comparable<Object>) propertyOf(student, property);
+    }
+
+    private static Object propertyOf(Student student, String property) {
+        return switch (property) {
+            case "id" -> student.getId();
+            case "name" -> student.getName();
+            case "email" -> student.getEmail();
+            case "birthDate" -> student.getBirthDate();
+            case "program" -> student.getProgram();
+            case "createdAt" -> student.getCreatedAt();
+            case "updatedAt" -> student.getUpdatedAt();
+            case "version" -> student.getVersion();
+            default -> throw new IllegalArgumentException("Students have no property " + property);
+        };
+    }
+
+    private static <T> Page<T> page(List<T> sorted, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted);
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(new ArrayList<>(sorted.subList(from, to)), pageable, sorted.size());
+    }
+
+    /**
+     * Build the test of an example: the probe type, then every set (or, with the INCLUDE null
+     * handler, every null) property of the probe that is not ignored, combined as the matcher
+     * says. Strings follow the string matcher and case rule of their path, as MongoDB does.
+     */
+    private static Predicate<Student> matcherOf(Example<? extends Student> example) {
+        ExampleMatcherAccessor matcher = new ExampleMatcherAccessor(example.getMatcher());
+        Student probe = example.getProbe();
+        List<Predicate<Student>> conditions = new ArrayList<>();
+
+        for (String property : EXAMPLE_PROPERTIES) {
+            if (matcher.isIgnoredPath(property)) {
+                continue;
+            }
+            Object value = matcher.getValueTransformerForPath(property)
+                .apply(Optional.ofNullable(propertyOf(probe, property))).orElse(null);
+            if (value == null) {
+                if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(student -> propertyOf(student, property) == null);
+                }
+            } else if (value instanceof String text) {
+                Predicate<String> matchesText = textMatcher(text, matcher.getStringMatcherForPath(property),
+                    matcher.isIgnoreCaseForPath(property));
+                conditions.add(student -> propertyOf(student, property) instanceof String stored
+                    && matchesText.test(stored));
+            } else {
+                conditions.add(student -> value.equals(propertyOf(student, property)));
+            }
+        }
+
+        Predicate<Student> properties = conditions.isEmpty() ? student -> true
+            : example.getMatcher().isAllMatching()
+                ? student -> conditions.stream().allMatch(condition -> condition.test(student))
+                : student -> conditions.stream().anyMatch(condition -> condition.test(student));
+        return student -> example.getProbeType().isInstance(student) && properties.test(student);
+    }
+
+    private static Predicate<String> textMatcher(String probe, ExampleMatcher.StringMatcher stringMatcher,
+                                                 boolean ignoreCase) {
+        if (stringMatcher == ExampleMatcher.StringMatcher.REGEX) {
+            Pattern pattern = Pattern.compile(probe, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+            return stored -> pattern.matcher(stored).find();
+        }
+        String expected = ignoreCase ? probe.toLowerCase(Locale.ROOT) : probe;
+        return stored -> {
+            String actual = ignoreCase ? stored.toLowerCase(Locale.ROOT) : stored;
+            return switch (stringMatcher) {
+                case STARTING -> actual.startsWith(expected);
+                case ENDING -> actual.endsWith(expected);
+                case CONTAINING -> actual.contains(expected);
+                default -> actual.equals(expected);
+            };
+        };
+    }
+
+    /**
+     * Entry of a sorted secondary index: the indexed value, then the id to keep entries unique.
+     * Null values sort first, as in MongoDB.
+     */
+    /**
+     * Next id of an id-sorted set being merged, with the ids after it.
+     */
+    private record IdCursor(String id, Iterator<String> rest) {
+    }
+
+    private record IndexEntry<K extends Comparable<? super K>>(K key, String id) {
+
+        static <K extends Comparable<? super K>> Comparator<IndexEntry<K>> order() {
+            return Comparator.comparing((IndexEntry<K> entry) -> entry.key(), Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(IndexEntry::id);
+        }
+    }
+
+    /**
+     * Fluent query over the students matched by an example, which are already read. Results
+     * are the students themselves or interface projections of them; properties to project
+     * are only a hint, as in MongoDB.
+     */
+    private record ExampleQuery<T>(List<? extends Student> students, Sort sort, int maxResults, Class<T> resultType)
+            implements FluentQuery.FetchableFluentQuery<T> {
+
+        private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ExampleQuery<>(students, this.sort.and(sort), maxResults, resultType);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            return new ExampleQuery<>(students, sort, limit, resultType);
+        }
+
+        @Override
+        public <R> FluentQuery.FetchableFluentQuery<R> as(Class<R> resultType) {
+            if (!resultType.isInterface() && !resultType.isAssignableFrom(Student.class)) {
+                throw new IllegalArgumentException("Students can only be returned as Student or an interface projection, not "
+                    + resultType.getName());
+            }
+            return new ExampleQuery<>(students, sort, maxResults, resultType);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> results = all();
+            if (results.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, results.size());
+            }
+            return results.isEmpty() ? null : results.get(0);
+        }
+
+        @Override
+        public T firstValue() {
+            List<T> results = all();
+            return results.isEmpty() ? null : results.get(0);
+        }
+
+        @Override
+        public List<T> all() {
+            return results(Sort.unsorted());
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            return InMemoryStudentRepository.page(results(pageable.getSort()), pageable);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return all().stream();
+        }
+
+        @Override
+        public long count() {
+            return maxResults > 0 ? Math.min(maxResults, students.size()) : students.size();
+        }
+
+        @Override
+        public boolean exists() {
+            return !students.isEmpty();
+        }
+
+        private List<T> results(Sort extraSort) {
+            List<Student> sorted = new ArrayList<>(students);
+            Sort order = sort.and(extraSort);
+            if (order.isSorted()) {
+                sorted.sort(comparator(order));
+            }
+            List<T> results = new ArrayList<>();
+            for (Student student : maxResults > 0 ? sorted.subList(0, Math.min(maxResults, sorted.size())) : sorted) {
+                results.add(resultType.isInstance(student) ? resultType.cast(student)
+                    : PROJECTIONS.createProjection(resultType, student));
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.model.Student;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Reactive counterpart of {@link StudentRepository}, backed by the reactive MongoDB driver.
+ * Used by the "reactive" profile; every method returns without blocking the calling thread.
+ * 
+ * @author Generated
+ * @version 1.0
+ */
+@Repository
+public interface ReactiveStudentRepository extends ReactiveMongoRepository<Student, String>,
+        ReactiveStudentRepositoryCustom {
+
+    /**
+     * Find a student by email address.
+     * 
+     * @param email the email address to search for
+     * @return Mono emitting the student if found, empty otherwise
+     */
+    Mono<Student> findByEmail(String email);
+
+    /**
+     * Find the students with any of the given emails.
+     * 
+     * @param emails the emails to search for
+     * @return Flux emitting the students found, in no particular order
+     */
+    Flux<Student> findByEmailIn(Collection<String> emails);
+
+    /**
+     * Count students by program.
+     * 
+     * @param program the program name
+     * @return Mono emitting the number of students in the program
+     */
+    Mono<Long> countByProgram(String program);
+}
@@ -0,0 +1,84 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reactive counterpart of {@link StudentRepositoryCustom}.
+ * Implemented by {@link ReactiveStudentRepositoryCustomImpl} on top of ReactiveMongoTemplate,
+ * with the same queries as the blocking implementation.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public interface ReactiveStudentRepositoryCustom {
+
+    /**
+     * @see StudentRepositoryCustom#findAllAfter
+     */
+    Flux<StudentResponse> findAllAfter(String afterId, int limit);
+
+    /**
+     * @see StudentRepositoryCustom#findByProgramAfter
+     */
+    Flux<StudentResponse> findByProgramAfter(String program, String afterId, int limit);
+
+    /**
+     * @see StudentRepositoryCustom#findByNameContainingIgnoreCaseAfter
+     */
+    Flux<StudentResponse> findByNameContainingIgnoreCaseAfter(String name, String afterId, int limit);
+
+    /**
+     * @see StudentRepositoryCustom#findByBirthDateBetweenAfter
+     */
+    Flux<StudentResponse> findByBirthDateBetweenAfter(LocalDate startDate, LocalDate endDate, String afterId, int limit);
+
+    /**
+     * @see StudentRepositoryCustom#findAllOrderByNameAfter
+     */
+    Flux<StudentResponse> findAllOrderByNameAfter(String afterName, String afterId, int limit);
+
+    /**
+     * @see StudentRepositoryCustom#findByIdIn
+     */
+    Flux<StudentResponse> findByIdIn(Collection<String> ids);
+
+    /**
+     * Stream students ordered by id, optionally filtered. Documents are requested from the
+     * cursor as the subscriber consumes them.
+     *
+     * @see StudentRepositoryCustom#streamByFilter
+     */
+    Flux<StudentResponse> streamByFilter(String program, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * @see StudentRepositoryCustom#insertAllUnordered
+     */
+    Mono<Set<Integer>> insertAllUnordered(List<Student> students);
+
+    /**
+     * @see StudentRepositoryCustom#findAndRemoveById
+     */
+    Mono<Student> findAndRemoveById(String id, Collection<LocalDateTime> expectedUpdatedAt);
+
+    /**
+     * @see StudentRepositoryCustom#updateFields
+     */
+    Mono<Student> updateFields(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt,
+                               Map<String, Object> fields);
+
+    /**
+     * @see StudentRepositoryCustom#aggregateProgramStats
+     */
+    Flux<ProgramStats> aggregateProgramStats();
+}
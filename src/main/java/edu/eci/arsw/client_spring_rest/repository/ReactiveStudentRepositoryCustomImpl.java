@@ -0,0 +1,144 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import com.mongodb.MongoBulkWriteException;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ReactiveMongoTemplate based implementation of {@link ReactiveStudentRepositoryCustom}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class ReactiveStudentRepositoryCustomImpl implements ReactiveStudentRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final StudentResponseMapper responseMapper;
+    private final int cursorBatchSize;
+
+    public ReactiveStudentRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate,
+                                               @Value("${students.export.cursor-batch-size:1000}") int cursorBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.responseMapper = new StudentResponseMapper(mongoTemplate.getConverter().getConversionService());
+        this.cursorBatchSize = cursorBatchSize;
+    }
+
+    @Override
+    public Flux<StudentResponse> findAllAfter(String afterId, int limit) {
+        return findProjected(StudentQueries.pageById(null, afterId, limit));
+    }
+
+    @Override
+    public Flux<StudentResponse> findByProgramAfter(String program, String afterId, int limit) {
+        return findProjected(StudentQueries.pageById(StudentQueries.byProgram(program), afterId, limit));
+    }
+
+    @Override
+    public Flux<StudentResponse> findByNameContainingIgnoreCaseAfter(String name, String afterId, int limit) {
+        return findProjected(StudentQueries.pageById(StudentQueries.nameContainingIgnoreCase(name), afterId, limit));
+    }
+
+    @Override
+    public Flux<StudentResponse> findByBirthDateBetweenAfter(LocalDate startDate, LocalDate endDate,
+                                                             String afterId, int limit) {
+        Criteria criteria = StudentQueries.birthDateBetween(startDate, endDate);
+        return findProjected(StudentQueries.pageById(criteria, afterId, limit));
+    }
+
+    @Override
+    public Flux<StudentResponse> findAllOrderByNameAfter(String afterName, String afterId, int limit) {
+        return findProjected(StudentQueries.pageByName(afterName, afterId, limit));
+    }
+
+    @Override
+    public Flux<StudentResponse> findByIdIn(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return findProjected(StudentQueries.byIdIn(ids));
+    }
+
+    @Override
+    public Flux<StudentResponse> streamByFilter(String program, LocalDate startDate, LocalDate endDate) {
+        return findProjected(StudentQueries.byFilter(program, startDate, endDate).cursorBatchSize(cursorBatchSize));
+    }
+
+    @Override
+    public Mono<Set<Integer>> insertAllUnordered(List<Student> students) {
+        if (students.isEmpty()) {
+            return Mono.just(Collections.emptySet());
+        }
+        StudentQueries.prepareInserts(students);
+
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class)
+            .insert(students)
+            .execute()
+            .map(result -> Collections.<Integer>emptySet())
+            .onErrorResume(e -> {
+                // The reactive driver error reaches us translated, the write errors are on the cause
+                Set<Integer> duplicates = duplicateIndexes(e);
+                return duplicates != null ? Mono.just(duplicates) : Mono.error(e);
+            });
+    }
+
+    @Override
+    public Mono<Student> findAndRemoveById(String id, Collection<LocalDateTime> expectedUpdatedAt) {
+        return mongoTemplate.findAndRemove(StudentQueries.byIdMatching(id, null, expectedUpdatedAt), Student.class);
+    }
+
+    @Override
+    public Mono<Student> updateFields(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt,
+                                      Map<String, Object> fields) {
+        // Return the previous document so callers know the values that were replaced
+        return mongoTemplate.findAndModify(StudentQueries.byIdMatching(id, expectedVersion, expectedUpdatedAt),
+            StudentQueries.setFields(fields), FindAndModifyOptions.options().returnNew(false), Student.class);
+    }
+
+    @Override
+    public Flux<ProgramStats> aggregateProgramStats() {
+        return mongoTemplate.aggregate(StudentQueries.programStats(), Document.class)
+            .map(responseMapper::toProgramStats);
+    }
+
+    /**
+     * Run a query restricted to the response fields and map the raw documents to DTOs.
+     *
+     * @see StudentRepositoryCustomImpl
+     */
+    private Flux<StudentResponse> findProjected(Query query) {
+        StudentResponseMapper.includeResponseFields(query.fields());
+
+        return mongoTemplate.query(Student.class)
+            .as(Document.class)
+            .matching(query)
+            .all()
+            .map(responseMapper::toResponse);
+    }
+
+    private static Set<Integer> duplicateIndexes(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoBulkWriteException bulkException) {
+                return StudentQueries.duplicateIndexes(bulkException.getWriteErrors());
+            }
+        }
+        return null;
+    }
+}
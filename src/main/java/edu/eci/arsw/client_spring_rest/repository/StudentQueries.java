@@ -0,0 +1,173 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.model.Student;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Queries, updates and aggregations on the students collection, shared by the blocking
+ * and the reactive repository implementations so both stacks read and write the same way.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+final class StudentQueries {
+
+    private StudentQueries() {
+    }
+
+    static Criteria byProgram(String program) {
+        return Criteria.where("program").is(program);
+    }
+
+    static Criteria nameContainingIgnoreCase(String name) {
+        return Criteria.where("name").regex(Pattern.quote(name), "i");
+    }
+
+    static Criteria birthDateBetween(LocalDate startDate, LocalDate endDate) {
+        return Criteria.where("birthDate").gte(startDate).lte(endDate);
+    }
+
+    /**
+     * Build a keyset page query ordered by id.
+     *
+     * @param criteria the filter criteria, or null to match every student
+     * @param afterId the id to start after, or null for the first page
+     * @param limit the maximum number of documents to return
+     * @return the page query
+     */
+    static Query pageById(Criteria criteria, String afterId, int limit) {
+        Query query = new Query();
+        if (criteria != null) {
+            query.addCriteria(criteria);
+        }
+        if (afterId != null) {
+            query.addCriteria(Criteria.where("id").gt(afterId));
+        }
+        return query.with(Sort.by(Sort.Order.asc("id"))).limit(limit);
+    }
+
+    /**
+     * Build a keyset page query ordered by name, using the id to break ties.
+     */
+    static Query pageByName(String afterName, String afterId, int limit) {
+        Query query = new Query();
+        if (afterName != null && afterId != null) {
+            // (name > afterName) OR (name = afterName AND id > afterId)
+            query.addCriteria(new Criteria().orOperator(
+                Criteria.where("name").gt(afterName),
+                new Criteria().andOperator(
+                    Criteria.where("name").is(afterName),
+                    Criteria.where("id").gt(afterId))));
+        }
+        return query.with(Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id"))).limit(limit);
+    }
+
+    static Query byIdIn(Collection<String> ids) {
+        return new Query(Criteria.where("id").in(ids));
+    }
+
+    /**
+     * Build the export query ordered by id, with optional filters.
+     */
+    static Query byFilter(String program, LocalDate startDate, LocalDate endDate) {
+        Query query = new Query();
+        if (program != null) {
+            query.addCriteria(byProgram(program));
+        }
+        if (startDate != null || endDate != null) {
+            Criteria birthDate = Criteria.where("birthDate");
+            if (startDate != null) {
+                birthDate.gte(startDate);
+            }
+            if (endDate != null) {
+                birthDate.lte(endDate);
+            }
+            query.addCriteria(birthDate);
+        }
+        return query.with(Sort.by(Sort.Order.asc("id")));
+    }
+
+    /**
+     * Match a student by id, optionally only at an expected version or last update time.
+     */
+    static Query byIdMatching(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt) {
+        Query query = new Query(Criteria.where("id").is(id));
+        if (expectedVersion != null) {
+            query.addCriteria(Criteria.where("version").is(expectedVersion));
+        }
+        if (expectedUpdatedAt != null) {
+            query.addCriteria(Criteria.where("updatedAt").in(expectedUpdatedAt));
+        }
+        return query;
+    }
+
+    /**
+     * Set the given fields and increment the version.
+     */
+    static Update setFields(Map<String, Object> fields) {
+        Update update = new Update().inc("version", 1);
+        fields.forEach(update::set);
+        return update;
+    }
+
+    static TypedAggregation<Student> programStats() {
+        return Aggregation.newAggregation(Student.class,
+            Aggregation.group("program")
+                .count().as("count")
+                .min("birthDate").as("minBirthDate")
+                .max("birthDate").as("maxBirthDate")
+                // $avg ignores dates, so average the epoch milliseconds instead
+                .avg(ConvertOperators.valueOf("birthDate").convertToLong()).as("avgBirthDateMillis"),
+            Aggregation.sort(Sort.by(Sort.Order.asc("_id"))));
+    }
+
+    /**
+     * Give every student without an id a new one, so inserted ids are known without reading back,
+     * and start unversioned students at version 0 as save does; bulk inserts do not set it.
+     */
+    static void prepareInserts(List<Student> students) {
+        for (Student student : students) {
+            if (student.getId() == null) {
+                student.setId(new ObjectId().toHexString());
+            }
+            if (student.getVersion() == null) {
+                student.setVersion(0L);
+            }
+        }
+    }
+
+    /**
+     * Get the positions rejected by a unique index from the errors of an unordered bulk write.
+     *
+     * @param errors the bulk write errors
+     * @return the rejected positions, or null if any error is not a duplicate key
+     */
+    static Set<Integer> duplicateIndexes(List<BulkWriteError> errors) {
+        Set<Integer> duplicates = new HashSet<>();
+        for (BulkWriteError error : errors) {
+            if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                return null;
+            }
+            duplicates.add(error.getIndex());
+        }
+        return duplicates;
+    }
+}
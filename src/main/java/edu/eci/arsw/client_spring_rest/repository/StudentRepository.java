@@ -6,18 +6,20 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for Student entity.
- * Extends MongoRepository to provide basic CRUD operations and custom query methods.
+ * Extends MongoRepository to provide basic CRUD operations and custom query methods,
+ * and {@link StudentRepositoryCustom} for the keyset paged queries.
  * 
  * @author Generated
  * @version 1.0
  */
 @Repository
-public interface StudentRepository extends MongoRepository<Student, String> {
+public interface StudentRepository extends MongoRepository<Student, String>, StudentRepositoryCustom {
 
     /**
      * Find a student by email address.
@@ -60,6 +62,14 @@ public interface StudentRepository extends MongoRepository<Student, String> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Find the students with any of the given emails.
+     * 
+     * @param emails the emails to search for
+     * @return List of the students found, in no particular order
+     */
+    List<Student> findByEmailIn(Collection<String> emails);
+
     /**
      * Count students by program.
      * 
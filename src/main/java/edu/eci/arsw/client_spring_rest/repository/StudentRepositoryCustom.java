@@ -0,0 +1,140 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for Student queries that cannot be expressed as derived queries.
+ * Implemented by {@link StudentRepositoryCustomImpl} on top of MongoTemplate.
+ *
+ * <p>The paged finders use keyset pagination: each page starts strictly after the last
+ * key of the previous page, so the cost of a page does not depend on how deep it is.</p>
+ *
+ * <p>The list reads project only the response fields and map them straight into
+ * {@link StudentResponse}, without materializing Student entities.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public interface StudentRepositoryCustom {
+
+    /**
+     * Find a page of students ordered by id.
+     *
+     * @param afterId the id of the last student of the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return List of students with an id greater than {@code afterId}
+     */
+    List<StudentResponse> findAllAfter(String afterId, int limit);
+
+    /**
+     * Find a page of students in a program ordered by id.
+     *
+     * @param program the program name
+     * @param afterId the id of the last student of the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return List of students in the program
+     */
+    List<StudentResponse> findByProgramAfter(String program, String afterId, int limit);
+
+    /**
+     * Find a page of students whose name contains the given string (case-insensitive) ordered by id.
+     *
+     * @param name the name or partial name to search for
+     * @param afterId the id of the last student of the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return List of matching students
+     */
+    List<StudentResponse> findByNameContainingIgnoreCaseAfter(String name, String afterId, int limit);
+
+    /**
+     * Find a page of students born between two dates ordered by id.
+     *
+     * @param startDate the start date (inclusive)
+     * @param endDate the end date (inclusive)
+     * @param afterId the id of the last student of the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return List of students born between the dates
+     */
+    List<StudentResponse> findByBirthDateBetweenAfter(LocalDate startDate, LocalDate endDate, String afterId, int limit);
+
+    /**
+     * Find a page of students ordered by name, using the id to break ties.
+     *
+     * @param afterName the name of the last student of the previous page, or null for the first page
+     * @param afterId the id of the last student of the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return List of students ordered by name and id
+     */
+    List<StudentResponse> findAllOrderByNameAfter(String afterName, String afterId, int limit);
+
+    /**
+     * Find the students with the given ids in a single $in query.
+     *
+     * @param ids the student ids
+     * @return List of the students found, in no particular order
+     */
+    List<StudentResponse> findByIdIn(Collection<String> ids);
+
+    /**
+     * Stream students ordered by id through a server-side cursor, optionally filtered.
+     * The returned stream holds an open cursor and must be closed by the caller.
+     *
+     * @param program the program name, or null for every program
+     * @param startDate the start birth date (inclusive), or null for no lower bound
+     * @param endDate the end birth date (inclusive), or null for no upper bound
+     * @return a lazily fetched stream of students
+     */
+    Stream<StudentResponse> streamByFilter(String program, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Insert students with a single unordered bulk write.
+     * Every student is attempted even if some of them are rejected. Students without
+     * an id get one assigned before the write, and students without a version start at 0.
+     *
+     * @param students the students to insert
+     * @return the positions in {@code students} rejected by the unique email index
+     */
+    Set<Integer> insertAllUnordered(List<Student> students);
+
+    /**
+     * Delete a student by id and return the deleted document in the same round trip.
+     *
+     * @param id the student id
+     * @param expectedUpdatedAt the last update times the student may have, or null for any
+     * @return Optional containing the deleted student, empty if no student had the id
+     *         or its last update time is not one of the expected ones
+     */
+    Optional<Student> findAndRemoveById(String id, Collection<LocalDateTime> expectedUpdatedAt);
+
+    /**
+     * Atomically set the given fields of a student and increment its version with a single
+     * findAndModify. Only the given fields are written, the rest of the document is untouched.
+     *
+     * @param id the student id
+     * @param expectedVersion the version the student must have, or null to update any version
+     * @param expectedUpdatedAt the last update times the student may have, or null for any
+     * @param fields the new values by Student property name
+     * @return Optional containing the student as it was before the update, empty if no student
+     *         has the id or it does not match the expected version or update times
+     */
+    Optional<Student> updateFields(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt,
+                                   Map<String, Object> fields);
+
+    /**
+     * Compute per-program statistics with a single aggregation pipeline.
+     *
+     * @return the student count and birth date range and average of each program, ordered by program
+     */
+    List<ProgramStats> aggregateProgramStats();
+}
@@ -0,0 +1,161 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate based implementation of {@link StudentRepositoryCustom}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentRepositoryCustomImpl implements StudentRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentResponseMapper responseMapper;
+    private final int cursorBatchSize;
+
+    public StudentRepositoryCustomImpl(MongoTemplate mongoTemplate,
+                                       @Value("${students.export.cursor-batch-size:1000}") int cursorBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.responseMapper = new StudentResponseMapper(mongoTemplate.getConverter().getConversionService());
+        this.cursorBatchSize = cursorBatchSize;
+    }
+
+    @Override
+    public List<StudentResponse> findAllAfter(String afterId, int limit) {
+        return findProjected(StudentQueries.pageById(null, afterId, limit));
+    }
+
+    @Override
+    public List<StudentResponse> findByProgramAfter(String program, String afterId, int limit) {
+        return findProjected(StudentQueries.pageById(StudentQueries.byProgram(program), afterId, limit));
+    }
+
+    @Override
+    public List<StudentResponse> findByNameContainingIgnoreCaseAfter(String name, String afterId, int limit) {
+        return findProjected(StudentQueries.pageById(StudentQueries.nameContainingIgnoreCase(name), afterId, limit));
+    }
+
+    @Override
+    public List<StudentResponse> findByBirthDateBetweenAfter(LocalDate startDate, LocalDate endDate,
+                                                     String afterId, int limit) {
+        Criteria criteria = StudentQueries.birthDateBetween(startDate, endDate);
+        return findProjected(StudentQueries.pageById(criteria, afterId, limit));
+    }
+
+    @Override
+    public List<StudentResponse> findAllOrderByNameAfter(String afterName, String afterId, int limit) {
+        return findProjected(StudentQueries.pageByName(afterName, afterId, limit));
+    }
+
+    @Override
+    public List<StudentResponse> findByIdIn(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return findProjected(StudentQueries.byIdIn(ids));
+    }
+
+    @Override
+    public Stream<StudentResponse> streamByFilter(String program, LocalDate startDate, LocalDate endDate) {
+        Query query = StudentQueries.byFilter(program, startDate, endDate).cursorBatchSize(cursorBatchSize);
+        StudentResponseMapper.includeResponseFields(query.fields());
+
+        return mongoTemplate.query(Student.class)
+            .as(Document.class)
+            .matching(query)
+            .stream()
+            .map(responseMapper::toResponse);
+    }
+
+    @Override
+    public Set<Integer> insertAllUnordered(List<Student> students) {
+        if (students.isEmpty()) {
+            return Collections.emptySet();
+        }
+        StudentQueries.prepareInserts(students);
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Student.class)
+                .insert(students)
+                .execute();
+            return Collections.emptySet();
+        } catch (BulkOperationException e) {
+            Set<Integer> duplicates = StudentQueries.duplicateIndexes(e.getErrors());
+            if (duplicates == null) {
+                throw e;
+            }
+            return duplicates;
+        }
+    }
+
+    @Override
+    public Optional<Student> findAndRemoveById(String id, Collection<LocalDateTime> expectedUpdatedAt) {
+        Query query = StudentQueries.byIdMatching(id, null, expectedUpdatedAt);
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Student.class));
+    }
+
+    @Override
+    public Optional<Student> updateFields(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt,
+                                          Map<String, Object> fields) {
+        Query query = StudentQueries.byIdMatching(id, expectedVersion, expectedUpdatedAt);
+
+        // Return the previous document so callers know the values that were replaced
+        Student previous = mongoTemplate.findAndModify(query, StudentQueries.setFields(fields),
+            FindAndModifyOptions.options().returnNew(false), Student.class);
+        return Optional.ofNullable(previous);
+    }
+
+    @Override
+    public List<ProgramStats> aggregateProgramStats() {
+        List<ProgramStats> stats = new ArrayList<>();
+        for (Document document : mongoTemplate.aggregate(StudentQueries.programStats(), Document.class)) {
+            stats.add(responseMapper.toProgramStats(document));
+        }
+        return stats;
+    }
+
+    /**
+     * Run a query restricted to the response fields and map the raw documents to DTOs.
+     * The query is still mapped through the Student entity, so property names and
+     * values (ids, dates) are translated as for entity queries.
+     *
+     * @param query the query to run
+     * @return the matching students as response DTOs
+     */
+    private List<StudentResponse> findProjected(Query query) {
+        StudentResponseMapper.includeResponseFields(query.fields());
+
+        List<Document> documents = mongoTemplate.query(Student.class)
+            .as(Document.class)
+            .matching(query)
+            .all();
+
+        List<StudentResponse> students = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            students.add(responseMapper.toResponse(document));
+        }
+        return students;
+    }
+}
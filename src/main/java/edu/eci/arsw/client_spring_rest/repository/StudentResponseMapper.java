@@ -0,0 +1,99 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mongodb.core.query.Field;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * Maps raw projected student documents straight into {@link StudentResponse} DTOs.
+ * Used by the list read path to skip the Student entity and the reflective
+ * instantiation done by MappingMongoConverter.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentResponseMapper {
+
+    // Stored field names, these must match the @Field mappings of Student
+    static final String ID = "_id";
+    static final String NAME = "name";
+    static final String EMAIL = "email";
+    static final String BIRTH_DATE = "birth_date";
+    static final String PROGRAM = "program";
+    static final String CREATED_AT = "created_at";
+    static final String UPDATED_AT = "updated_at";
+    static final String VERSION = "version";
+
+    private final ConversionService conversionService;
+
+    /**
+     * @param conversionService the conversion service of the Mongo converter, so dates
+     *                          are read with the same time zone rules as entity reads
+     */
+    public StudentResponseMapper(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * Restrict a query to the fields exposed by {@link StudentResponse}.
+     * Property names are used, so the projection is mapped through the Student entity.
+     *
+     * @param fields the query field specification to restrict
+     */
+    public static void includeResponseFields(Field fields) {
+        fields.include("id", "name", "email", "birthDate", "program", "createdAt", "updatedAt", "version");
+    }
+
+    /**
+     * Convert a projected student document to a response DTO.
+     *
+     * @param document the raw document read from the students collection
+     * @return the student response DTO
+     */
+    public StudentResponse toResponse(Document document) {
+        return new StudentResponse(
+            idToString(document.get(ID)),
+            document.getString(NAME),
+            document.getString(EMAIL),
+            convert(document.get(BIRTH_DATE), LocalDate.class),
+            document.getString(PROGRAM),
+            convert(document.get(CREATED_AT), LocalDateTime.class),
+            convert(document.get(UPDATED_AT), LocalDateTime.class),
+            convert(document.get(VERSION), Long.class)
+        );
+    }
+
+    /**
+     * Convert one result document of the program statistics aggregation.
+     *
+     * @param document the grouped document, keyed by program
+     * @return the program statistics
+     */
+    public ProgramStats toProgramStats(Document document) {
+        Number avgMillis = document.get("avgBirthDateMillis", Number.class);
+        return new ProgramStats(
+            document.getString(ID),
+            document.get("count", Number.class).longValue(),
+            convert(document.get("minBirthDate"), LocalDate.class),
+            convert(document.get("maxBirthDate"), LocalDate.class),
+            avgMillis != null ? convert(new Date(avgMillis.longValue()), LocalDate.class) : null);
+    }
+
+    private static String idToString(Object id) {
+        if (id instanceof ObjectId objectId) {
+            return objectId.toHexString();
+        }
+        return id != null ? id.toString() : null;
+    }
+
+    private <T> T convert(Object value, Class<T> type) {
+        return value != null ? conversionService.convert(value, type) : null;
+    }
+}
@@ -0,0 +1,88 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for a change stream, used with the "in-memory" profile where this
+ * instance is the only writer. Changes are the {@link StudentChangeEvent}s of local writes,
+ * numbered in publication order; they are only kept while a feed is watching, and the
+ * resume token lives as long as the process.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("in-memory")
+public class LocalStudentChangeSource implements StudentChangeSource {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final BlockingQueue<Change> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean watching;
+    private volatile boolean stopped;
+    private volatile String resumeToken;
+
+    /**
+     * Queue a local write as a change.
+     *
+     * @param event the student change
+     */
+    @EventListener
+    public void onStudentChange(StudentChangeEvent event) {
+        if (watching && !event.isFromChangeStream()) {
+            queue.offer(new Change(Long.toString(sequence.incrementAndGet()), event.getType(),
+                event.getStudentId(), event.getType() == StudentChangeEvent.Type.DELETED ? null : event.getStudent()));
+        }
+    }
+
+    @Override
+    public String watch(String resumeAfter, Runnable started, Consumer<Change> consumer) {
+        // Nothing is kept from before the watch started, so there is nothing to resume
+        String last = resumeAfter;
+        watching = true;
+        started.run();
+        try {
+            while (!stopped) {
+                Change change = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (change != null) {
+                    consumer.accept(change);
+                    last = change.token();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            watching = false;
+        }
+        return last;
+    }
+
+    @Override
+    public boolean isSingleWriter() {
+        return true;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    @Override
+    public String loadResumeToken() {
+        return resumeToken;
+    }
+
+    @Override
+    public void saveResumeToken(String token) {
+        resumeToken = token;
+    }
+}
@@ -0,0 +1,179 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import edu.eci.arsw.client_spring_rest.repository.StudentResponseMapper;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reads student changes from a MongoDB change stream on the students collection, with the
+ * full document looked up for updates. Resume tokens are saved in a small collection,
+ * one document per consumer name.
+ *
+ * <p>Change streams need a replica set or sharded cluster; on a standalone server
+ * {@link #watch} fails with {@link UnsupportedOperationException}. The "reactive" profile
+ * reads the same stream through {@link ReactiveMongoStudentChangeSource}.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("!in-memory & !reactive")
+public class MongoStudentChangeSource implements StudentChangeSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoStudentChangeSource.class);
+
+    static final String TOKENS_COLLECTION = "studentChangeStreamTokens";
+
+    // Server error codes: change streams unsupported, and resume point no longer available
+    static final Set<Integer> UNSUPPORTED_CODES = Set.of(40573);
+    static final Set<Integer> HISTORY_LOST_CODES = Set.of(260, 280, 286);
+
+    static final List<Bson> PIPELINE = List.of(Aggregates.match(Filters.in("operationType",
+        List.of("insert", "update", "replace", "delete", "invalidate"))));
+
+    private final MongoTemplate mongoTemplate;
+    private final StudentResponseMapper responseMapper;
+    private final String consumerName;
+    private volatile boolean stopped;
+
+    public MongoStudentChangeSource(MongoTemplate mongoTemplate,
+                                    @Value("${students.changes.consumer-name:${spring.application.name}}") String consumerName) {
+        this.mongoTemplate = mongoTemplate;
+        this.responseMapper = new StudentResponseMapper(mongoTemplate.getConverter().getConversionService());
+        this.consumerName = consumerName;
+    }
+
+    @Override
+    public String watch(String resumeAfter, Runnable started, Consumer<Change> consumer) {
+        String last = resumeAfter;
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open(resumeAfter)) {
+            started.run();
+            while (!stopped) {
+                // Returns after the await time without a change, so a stop is noticed
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change == null) {
+                    continue;
+                }
+                if (!accept(change, responseMapper, consumer)) {
+                    return null;
+                }
+                last = change.getResumeToken().getString("_data").getValue();
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Hand one change stream document to the consumer.
+     *
+     * @param change the document read from the change stream
+     * @param responseMapper maps the full document to a student response
+     * @param consumer receives the change
+     * @return false if the stream was invalidated and must be opened again from now on
+     */
+    static boolean accept(ChangeStreamDocument<Document> change, StudentResponseMapper responseMapper,
+                          Consumer<Change> consumer) {
+        String token = change.getResumeToken().getString("_data").getValue();
+        switch (change.getOperationType()) {
+            case INSERT -> consumer.accept(new Change(token, StudentChangeEvent.Type.CREATED,
+                idOf(change), responseMapper.toResponse(change.getFullDocument())));
+            case UPDATE, REPLACE -> {
+                // No document means it was deleted since; its delete follows
+                if (change.getFullDocument() != null) {
+                    consumer.accept(new Change(token, StudentChangeEvent.Type.UPDATED,
+                        idOf(change), responseMapper.toResponse(change.getFullDocument())));
+                }
+            }
+            case DELETE -> consumer.accept(new Change(token, StudentChangeEvent.Type.DELETED,
+                idOf(change), null));
+            case INVALIDATE -> {
+                return false;
+            }
+            default -> {
+                // Filtered out by the pipeline
+            }
+        }
+        return true;
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(String resumeAfter) {
+        try {
+            return watchFrom(resumeAfter);
+        } catch (MongoCommandException e) {
+            if (UNSUPPORTED_CODES.contains(e.getErrorCode())) {
+                throw new UnsupportedOperationException("change streams need a replica set: " + e.getErrorMessage(), e);
+            }
+            if (resumeAfter != null && HISTORY_LOST_CODES.contains(e.getErrorCode())) {
+                logger.warn("Student change stream cannot resume after the saved token, following changes from now on: {}",
+                    e.getErrorMessage());
+                return watchFrom(null);
+            }
+            throw e;
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> watchFrom(String resumeAfter) {
+        String collectionName = mongoTemplate.getCollectionName(Student.class);
+        ChangeStreamIterable<Document> changeStream = mongoTemplate.getCollection(collectionName)
+            .watch(PIPELINE)
+            .fullDocument(FullDocument.UPDATE_LOOKUP)
+            .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeAfter != null) {
+            changeStream = changeStream.resumeAfter(resumeTokenOf(resumeAfter));
+        }
+        // The cursor is opened, and the command sent, here
+        return changeStream.cursor();
+    }
+
+    static BsonDocument resumeTokenOf(String token) {
+        return new BsonDocument("_data", new BsonString(token));
+    }
+
+    private static String idOf(ChangeStreamDocument<Document> change) {
+        BsonValue id = change.getDocumentKey().get("_id");
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+    }
+
+    @Override
+    public String loadResumeToken() {
+        Document saved = mongoTemplate.findById(consumerName, Document.class, TOKENS_COLLECTION);
+        return saved != null ? saved.getString("token") : null;
+    }
+
+    @Override
+    public void saveResumeToken(String token) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(consumerName)),
+            Update.update("token", token).set("savedAt", Instant.now()), TOKENS_COLLECTION);
+    }
+}
@@ -0,0 +1,134 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import edu.eci.arsw.client_spring_rest.repository.StudentResponseMapper;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads student changes from a MongoDB change stream through the reactive driver, for the
+ * "reactive" profile, which has no blocking client. Documents, resume tokens and errors are
+ * handled as in {@link MongoStudentChangeSource}.
+ *
+ * <p>The feed consumes changes on its own thread, so the stream is iterated there, waiting
+ * for each change. The reactive driver gives no signal once the cursor is open, so a watch
+ * without a resume token starts at the operation time read just before it is reported as
+ * started: a change committed in between is still delivered.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("reactive")
+public class ReactiveMongoStudentChangeSource implements StudentChangeSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMongoStudentChangeSource.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final StudentResponseMapper responseMapper;
+    private final String consumerName;
+    private final Sinks.One<Boolean> stopped = Sinks.one();
+
+    public ReactiveMongoStudentChangeSource(ReactiveMongoTemplate mongoTemplate,
+                                            @Value("${students.changes.consumer-name:${spring.application.name}}") String consumerName) {
+        this.mongoTemplate = mongoTemplate;
+        this.responseMapper = new StudentResponseMapper(mongoTemplate.getConverter().getConversionService());
+        this.consumerName = consumerName;
+    }
+
+    @Override
+    public String watch(String resumeAfter, Runnable started, Consumer<Change> consumer) {
+        try {
+            return follow(resumeAfter, started, consumer);
+        } catch (MongoCommandException e) {
+            if (MongoStudentChangeSource.UNSUPPORTED_CODES.contains(e.getErrorCode())) {
+                throw new UnsupportedOperationException("change streams need a replica set: " + e.getErrorMessage(), e);
+            }
+            if (resumeAfter != null && MongoStudentChangeSource.HISTORY_LOST_CODES.contains(e.getErrorCode())) {
+                logger.warn("Student change stream cannot resume after the saved token, following changes from now on: {}",
+                    e.getErrorMessage());
+                return follow(null, started, consumer);
+            }
+            throw e;
+        }
+    }
+
+    private String follow(String resumeAfter, Runnable started, Consumer<Change> consumer) {
+        ChangeStreamPublisher<Document> changeStream = mongoTemplate.getCollection(
+                mongoTemplate.getCollectionName(Student.class)).block()
+            .watch(MongoStudentChangeSource.PIPELINE)
+            .fullDocument(FullDocument.UPDATE_LOOKUP);
+        if (resumeAfter != null) {
+            changeStream = changeStream.resumeAfter(MongoStudentChangeSource.resumeTokenOf(resumeAfter));
+        } else {
+            BsonTimestamp now = operationTime();
+            if (now != null) {
+                changeStream = changeStream.startAtOperationTime(now);
+            }
+        }
+        started.run();
+
+        String last = resumeAfter;
+        // Completes when the source is stopped; closing the stream cancels the cursor
+        try (Stream<ChangeStreamDocument<Document>> changes = Flux.from(changeStream)
+                .takeUntilOther(stopped.asMono())
+                .toStream(1)) {
+            Iterator<ChangeStreamDocument<Document>> iterator = changes.iterator();
+            while (iterator.hasNext()) {
+                ChangeStreamDocument<Document> change = iterator.next();
+                if (!MongoStudentChangeSource.accept(change, responseMapper, consumer)) {
+                    return null;
+                }
+                last = change.getResumeToken().getString("_data").getValue();
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Read the operation time of the cluster, or null if it does not report one.
+     */
+    private BsonTimestamp operationTime() {
+        Document reply = mongoTemplate.executeCommand(new Document("ping", 1)).block();
+        return reply != null && reply.get("operationTime") instanceof BsonTimestamp time ? time : null;
+    }
+
+    @Override
+    public void stop() {
+        stopped.tryEmitValue(true);
+    }
+
+    @Override
+    public String loadResumeToken() {
+        Document saved = mongoTemplate.findById(consumerName, Document.class,
+            MongoStudentChangeSource.TOKENS_COLLECTION).block();
+        return saved != null ? saved.getString("token") : null;
+    }
+
+    @Override
+    public void saveResumeToken(String token) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(consumerName)),
+            Update.update("token", token).set("savedAt", Instant.now()),
+            MongoStudentChangeSource.TOKENS_COLLECTION).block();
+    }
+}
@@ -0,0 +1,437 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.config.StudentIndexManager;
+import edu.eci.arsw.client_spring_rest.dto.BatchLookupResponse;
+import edu.eci.arsw.client_spring_rest.dto.BulkCreateResponse;
+import edu.eci.arsw.client_spring_rest.dto.BulkItemResult;
+import edu.eci.arsw.client_spring_rest.dto.PageResponse;
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentCreateRequest;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentSuggestion;
+import edu.eci.arsw.client_spring_rest.exception.StudentNotFoundException;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import edu.eci.arsw.client_spring_rest.repository.ReactiveStudentRepository;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import jakarta.validation.Validator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Non-blocking counterpart of {@link StudentService} for the "reactive" profile.
+ * Implements the same rules on top of {@link ReactiveStudentRepository}, so no request
+ * thread ever waits on MongoDB I/O. Writes publish the same {@link StudentChangeEvent}s,
+ * which keeps the program statistics cache and the collection ETags consistent.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Service
+@Profile("reactive")
+public class ReactiveStudentService {
+
+    private static final String PROGRAM_STATS_KEY = "all";
+
+    private final ReactiveStudentRepository studentRepository;
+    private final StudentNameIndex nameIndex;
+    private final StudentAutocompleteIndex autocompleteIndex;
+    private final ObjectProvider<StudentIndexManager> indexManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final Cache programStatsCache;
+    private final int maxPageSize;
+    private final int bulkChunkSize;
+    private final int maxBatchIds;
+
+    public ReactiveStudentService(ReactiveStudentRepository studentRepository, StudentNameIndex nameIndex,
+                                  StudentAutocompleteIndex autocompleteIndex,
+                                  ObjectProvider<StudentIndexManager> indexManager,
+                                  ApplicationEventPublisher eventPublisher, Validator validator,
+                                  CacheManager cacheManager,
+                                  @Value("${students.pagination.max-limit:500}") int maxPageSize,
+                                  @Value("${students.bulk.chunk-size:1000}") int bulkChunkSize,
+                                  @Value("${students.batch.max-ids:1000}") int maxBatchIds) {
+        this.studentRepository = studentRepository;
+        this.nameIndex = nameIndex;
+        this.autocompleteIndex = autocompleteIndex;
+        this.indexManager = indexManager;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.programStatsCache = cacheManager.getCache(StudentService.PROGRAM_STATS_CACHE);
+        this.maxPageSize = maxPageSize;
+        this.bulkChunkSize = bulkChunkSize;
+        this.maxBatchIds = maxBatchIds;
+    }
+
+    /**
+     * Create a new student.
+     *
+     * @param request the student creation request
+     * @return the created student response
+     * @see StudentService#createStudent
+     */
+    public Mono<StudentResponse> createStudent(StudentCreateRequest request) {
+        Student student = new Student(
+            request.getName(),
+            request.getEmail(),
+            request.getBirthDate(),
+            request.getProgram()
+        );
+
+        Mono<Boolean> taken = isEmailIndexVerified() ? Mono.just(false)
+            : studentRepository.findByEmail(student.getEmail()).hasElement();
+
+        return taken
+            .flatMap(duplicate -> duplicate
+                ? Mono.<Student>error(StudentService.duplicateEmail(student.getEmail(), null))
+                : studentRepository.save(student))
+            .onErrorMap(DuplicateKeyException.class, e -> StudentService.duplicateEmail(student.getEmail(), e))
+            .map(StudentService::convertToResponse)
+            .doOnNext(saved -> publishChange(StudentChangeEvent.Type.CREATED, saved));
+    }
+
+    /**
+     * Create many students at once, inserting one chunk after the other.
+     *
+     * @param requests the student creation requests, an empty entry stands for one that could not be read
+     * @return the outcome of every entry, in request order
+     * @see StudentService#createStudents
+     */
+    public Mono<BulkCreateResponse> createStudents(Flux<Optional<StudentCreateRequest>> requests) {
+        return requests.index()
+            .buffer(bulkChunkSize)
+            .concatMap(this::insertChunk)
+            .collectList()
+            .map(BulkCreateResponse::new);
+    }
+
+    /**
+     * @see StudentService#getAllStudents
+     */
+    public Mono<PageResponse<StudentResponse>> getAllStudents(String after, int limit) {
+        StudentCursor cursor = StudentCursor.decode(after);
+        int pageSize = StudentService.pageSize(limit, maxPageSize);
+
+        return toPage(studentRepository.findAllAfter(StudentService.lastId(cursor), pageSize + 1), pageSize, false);
+    }
+
+    /**
+     * @see StudentService#getStudentById
+     */
+    public Mono<StudentResponse> getStudentById(String id) {
+        return studentRepository.findById(id)
+            .map(StudentService::convertToResponse)
+            .switchIfEmpty(Mono.error(() -> new StudentNotFoundException("Student with ID " + id + " not found")));
+    }
+
+    /**
+     * @see StudentService#getStudentsByIds
+     */
+    public Mono<BatchLookupResponse> getStudentsByIds(List<String> ids) {
+        Set<String> uniqueIds = StudentService.uniqueBatchIds(ids, maxBatchIds);
+
+        return studentRepository.findByIdIn(uniqueIds)
+            .collectMap(StudentResponse::getId)
+            .map(found -> StudentService.toBatch(uniqueIds, found));
+    }
+
+    /**
+     * @see StudentService#getStudentByEmail
+     */
+    public Mono<StudentResponse> getStudentByEmail(String email) {
+        return studentRepository.findByEmail(email)
+            .map(StudentService::convertToResponse)
+            .switchIfEmpty(Mono.error(() -> new StudentNotFoundException("Student with email " + email + " not found")));
+    }
+
+    /**
+     * @see StudentService#getStudentsByProgram
+     */
+    public Mono<PageResponse<StudentResponse>> getStudentsByProgram(String program, String after, int limit) {
+        StudentCursor cursor = StudentCursor.decode(after);
+        int pageSize = StudentService.pageSize(limit, maxPageSize);
+
+        return toPage(studentRepository.findByProgramAfter(program, StudentService.lastId(cursor), pageSize + 1),
+            pageSize, false);
+    }
+
+    /**
+     * @see StudentService#searchStudentsByName
+     */
+    public Mono<PageResponse<StudentResponse>> searchStudentsByName(String name, String after, int limit) {
+        StudentCursor cursor = StudentCursor.decode(after);
+        int pageSize = StudentService.pageSize(limit, maxPageSize);
+
+        // The in-memory index answers without blocking; cursors of the database scan keep paging there
+        if (cursor == null || cursor.getSortKey() != null) {
+            List<String> ids = nameIndex.search(name, cursor != null ? cursor.getSortKey() : null,
+                StudentService.lastId(cursor), pageSize + 1);
+            if (ids != null) {
+                return studentRepository.findByIdIn(ids)
+                    .collectMap(StudentResponse::getId)
+                    .map(found -> {
+                        List<StudentResponse> students = new ArrayList<>(ids.size());
+                        for (String id : ids) {
+                            if (found.containsKey(id)) {
+                                students.add(found.get(id));
+                            }
+                        }
+                        return StudentService.toPage(students, pageSize,
+                            student -> StudentNameIndex.rankKey(name, student.getName()));
+                    });
+            }
+        }
+
+        return toPage(studentRepository.findByNameContainingIgnoreCaseAfter(
+            name, StudentService.lastId(cursor), pageSize + 1), pageSize, false);
+    }
+
+    /**
+     * @see StudentService#autocomplete
+     */
+    public Mono<List<StudentSuggestion>> autocomplete(String prefix, int limit) {
+        List<StudentSuggestion> suggestions = autocompleteIndex.search(prefix, limit);
+        if (suggestions != null) {
+            return Mono.just(suggestions);
+        }
+        return studentRepository.findByNameContainingIgnoreCaseAfter(
+                prefix, null, Math.min(limit, autocompleteIndex.getMaxLimit()))
+            .map(StudentService::toSuggestion)
+            .collectList();
+    }
+
+    /**
+     * @see StudentService#updateStudent
+     */
+    public Mono<StudentResponse> updateStudent(String id, StudentCreateRequest request,
+                                               Collection<LocalDateTime> expectedUpdatedAt) {
+        return applyUpdate(id, request.getVersion(), expectedUpdatedAt, StudentService.replacedFields(request));
+    }
+
+    /**
+     * @see StudentService#patchStudent
+     */
+    public Mono<StudentResponse> patchStudent(String id, StudentCreateRequest patch, Set<String> fields,
+                                              Collection<LocalDateTime> expectedUpdatedAt) {
+        return Mono.fromCallable(() -> StudentService.patchedFields(validator, patch, fields))
+            .flatMap(updates -> applyUpdate(id, patch.getVersion(), expectedUpdatedAt, updates));
+    }
+
+    /**
+     * @see StudentService#deleteStudent
+     */
+    public Mono<Void> deleteStudent(String id, Collection<LocalDateTime> expectedUpdatedAt) {
+        return studentRepository.findAndRemoveById(id, expectedUpdatedAt)
+            .switchIfEmpty(notUpdated(id, null, expectedUpdatedAt))
+            .doOnNext(deleted -> publishChange(StudentChangeEvent.Type.DELETED, StudentService.convertToResponse(deleted)))
+            .then();
+    }
+
+    /**
+     * @see StudentService#getStudentsByBirthDateRange
+     */
+    public Mono<PageResponse<StudentResponse>> getStudentsByBirthDateRange(LocalDate startDate, LocalDate endDate,
+                                                                           String after, int limit) {
+        StudentCursor cursor = StudentCursor.decode(after);
+        int pageSize = StudentService.pageSize(limit, maxPageSize);
+
+        return toPage(studentRepository.findByBirthDateBetweenAfter(
+            startDate, endDate, StudentService.lastId(cursor), pageSize + 1), pageSize, false);
+    }
+
+    /**
+     * @see StudentService#getStudentCountByProgram
+     */
+    public Mono<Long> getStudentCountByProgram(String program) {
+        return studentRepository.countByProgram(program);
+    }
+
+    /**
+     * Get statistics for every program, memoized in the same "programStats" cache as
+     * {@link StudentService#getProgramStats()}, which also evicts it on every write.
+     *
+     * @return the statistics of each program, ordered by program
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<List<ProgramStats>> getProgramStats() {
+        Cache.ValueWrapper cached = programStatsCache != null ? programStatsCache.get(PROGRAM_STATS_KEY) : null;
+        if (cached != null) {
+            return Mono.just((List<ProgramStats>) cached.get());
+        }
+        return studentRepository.aggregateProgramStats()
+            .collectList()
+            .doOnNext(stats -> {
+                if (programStatsCache != null) {
+                    programStatsCache.put(PROGRAM_STATS_KEY, stats);
+                }
+            });
+    }
+
+    /**
+     * @see StudentService#getAllStudentsOrderedByName
+     */
+    public Mono<PageResponse<StudentResponse>> getAllStudentsOrderedByName(String after, int limit) {
+        StudentCursor cursor = StudentCursor.decode(after);
+        int pageSize = StudentService.pageSize(limit, maxPageSize);
+
+        return toPage(studentRepository.findAllOrderByNameAfter(
+            cursor != null ? cursor.getSortKey() : null, StudentService.lastId(cursor), pageSize + 1),
+            pageSize, true);
+    }
+
+    /**
+     * Export students as they are read from a database cursor, optionally filtered.
+     * The cursor is consumed at the pace of the subscriber.
+     *
+     * @see StudentService#exportStudents
+     */
+    public Flux<StudentResponse> exportStudents(String program, LocalDate startDate, LocalDate endDate) {
+        return studentRepository.streamByFilter(program, startDate, endDate);
+    }
+
+    /**
+     * @see StudentService#updateStudent
+     */
+    private Mono<StudentResponse> applyUpdate(String id, Long expectedVersion,
+                                              Collection<LocalDateTime> expectedUpdatedAt,
+                                              Map<String, Object> fields) {
+        StudentService.stampUpdatedAt(fields);
+
+        String email = (String) fields.get("email");
+        Mono<Boolean> taken = email == null || isEmailIndexVerified() ? Mono.just(false)
+            : studentRepository.findByEmail(email).filter(other -> !other.getId().equals(id)).hasElement();
+
+        return taken
+            .flatMap(duplicate -> duplicate
+                ? Mono.<Student>error(StudentService.duplicateEmail(email, null))
+                : studentRepository.updateFields(id, expectedVersion, expectedUpdatedAt, fields))
+            .onErrorMap(DuplicateKeyException.class, e -> StudentService.duplicateEmail(email, e))
+            .switchIfEmpty(notUpdated(id, expectedVersion, expectedUpdatedAt))
+            .map(student -> {
+                StudentService.applyFields(student, fields);
+                StudentResponse response = StudentService.convertToResponse(student);
+                publishChange(StudentChangeEvent.Type.UPDATED, response);
+                return response;
+            });
+    }
+
+    /**
+     * Explain why a conditional write matched no student, checking existence only when needed.
+     */
+    private Mono<Student> notUpdated(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt) {
+        boolean conditional = expectedVersion != null || expectedUpdatedAt != null;
+        Mono<Boolean> exists = conditional ? studentRepository.existsById(id) : Mono.just(false);
+
+        return exists.flatMap(found -> Mono.error(
+            StudentService.notUpdated(id, expectedVersion, expectedUpdatedAt, found)));
+    }
+
+    /**
+     * Validate and insert one chunk of indexed bulk entries.
+     *
+     * @param chunk the entries with their request index
+     * @return the outcome of each entry, in request order
+     */
+    private Flux<BulkItemResult> insertChunk(List<Tuple2<Long, Optional<StudentCreateRequest>>> chunk) {
+        BulkItemResult[] results = new BulkItemResult[chunk.size()];
+        List<Student> students = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i).getT1().intValue();
+            StudentCreateRequest request = chunk.get(i).getT2().orElse(null);
+            Map<String, String> errors = StudentService.validationErrors(validator, request);
+
+            if (!errors.isEmpty()) {
+                results[i] = BulkItemResult.invalid(index, request != null ? request.getEmail() : null, errors);
+            } else {
+                students.add(new Student(request.getName(), request.getEmail(),
+                    request.getBirthDate(), request.getProgram()));
+                positions.add(i);
+            }
+        }
+
+        Mono<Set<Integer>> inserted = isEmailIndexVerified()
+            ? studentRepository.insertAllUnordered(students)
+            : insertCheckingEmails(students);
+
+        return inserted
+            .flatMapIterable(duplicates -> {
+                for (int i = 0; i < students.size(); i++) {
+                    Student student = students.get(i);
+                    int position = positions.get(i);
+                    int index = chunk.get(position).getT1().intValue();
+                    if (duplicates.contains(i)) {
+                        results[position] = BulkItemResult.duplicateEmail(index, student.getEmail());
+                    } else {
+                        results[position] = BulkItemResult.created(index, student.getId(), student.getEmail());
+                        publishChange(StudentChangeEvent.Type.CREATED, StudentService.convertToResponse(student));
+                    }
+                }
+                return List.of(results);
+            });
+    }
+
+    /**
+     * @see StudentService#insertCheckingEmails
+     */
+    private Mono<Set<Integer>> insertCheckingEmails(List<Student> students) {
+        return studentRepository.findByEmailIn(students.stream().map(Student::getEmail).toList())
+            .map(Student::getEmail)
+            .collect(HashSet<String>::new, Set::add)
+            .flatMap(taken -> {
+                Set<Integer> duplicates = StudentService.takenEmails(students, taken);
+                List<Integer> positions = new ArrayList<>(students.size());
+                for (int i = 0; i < students.size(); i++) {
+                    if (!duplicates.contains(i)) {
+                        positions.add(i);
+                    }
+                }
+
+                return studentRepository.insertAllUnordered(positions.stream().map(students::get).toList())
+                    .map(rejected -> {
+                        rejected.forEach(position -> duplicates.add(positions.get(position)));
+                        return duplicates;
+                    });
+            });
+    }
+
+    /**
+     * @see StudentService#isEmailIndexVerified
+     */
+    private boolean isEmailIndexVerified() {
+        StudentIndexManager manager = indexManager.getIfAvailable();
+        return manager == null || manager.isEmailIndexVerified();
+    }
+
+    private Mono<PageResponse<StudentResponse>> toPage(Flux<StudentResponse> students, int pageSize,
+                                                       boolean orderedByName) {
+        return students.collectList()
+            .map(list -> StudentService.toPage(list, pageSize,
+                student -> orderedByName ? student.getName() : null));
+    }
+
+    private void publishChange(StudentChangeEvent.Type type, StudentResponse student) {
+        eventPublisher.publishEvent(new StudentChangeEvent(type, student.getId(), student));
+    }
+}
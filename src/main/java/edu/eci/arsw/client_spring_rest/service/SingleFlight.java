@@ -0,0 +1,106 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads: while a call for an operation and arguments is in
+ * flight, the same call from other threads waits for it and shares its result or exception
+ * instead of running again. Nothing is kept once the call completes, so a call that starts
+ * after another finished always runs; this is not a cache.
+ *
+ * <p>Reads are only coalesced within one {@link StudentCollectionGeneration}: a call made
+ * after a write never joins a read that started before it, so callers still read their
+ * own writes.</p>
+ *
+ * <p>Shared results are handed to every waiting caller and must be treated as read-only,
+ * as for cached students. Calls are counted in students.reads.single-flight by operation
+ * and outcome: "executed" for calls that ran, "coalesced" for calls that waited on one.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("!reactive")
+public class SingleFlight {
+
+    private static final String METRIC = "students.reads.single-flight";
+
+    private final MeterRegistry meterRegistry;
+    private final StudentCollectionGeneration collectionGeneration;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry, StudentCollectionGeneration collectionGeneration) {
+        this.meterRegistry = meterRegistry;
+        this.collectionGeneration = collectionGeneration;
+    }
+
+    /**
+     * Run a read, or join the identical one already in flight.
+     *
+     * @param operation the name of the read, used as metric tag
+     * @param call the read
+     * @param arguments the arguments that identify the read, may contain nulls
+     * @return the result of the read
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Supplier<T> call, Object... arguments) {
+        Key key = new Key(operation, collectionGeneration.current(), Arrays.asList(arguments));
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+        Counter[] operationCounters = counters.computeIfAbsent(operation, this::register);
+
+        if (running != null) {
+            operationCounters[1].increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                // Surface the exception the read threw, as if it had run here
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        operationCounters[0].increment();
+        try {
+            T result = call.get();
+            inFlight.remove(key, future);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Counter[] register(String operation) {
+        return new Counter[] {
+            Counter.builder(METRIC).tag("operation", operation).tag("outcome", "executed")
+                .description("Student reads by whether they ran or joined an identical read in flight")
+                .register(meterRegistry),
+            Counter.builder(METRIC).tag("operation", operation).tag("outcome", "coalesced")
+                .description("Student reads by whether they ran or joined an identical read in flight")
+                .register(meterRegistry)
+        };
+    }
+
+    private record Key(String operation, String generation, List<Object> arguments) {
+    }
+}
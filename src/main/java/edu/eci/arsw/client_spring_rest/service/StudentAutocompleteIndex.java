@@ -0,0 +1,365 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentSuggestion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index of student names and emails, serving autocomplete without
+ * touching the database.
+ *
+ * <p>Every student contributes a term for its normalized name, one for each later word of
+ * the name, and one for its email. Terms are not copied: each is a student plus an offset
+ * into its normalized name or email, kept in sorted parallel arrays, so a prefix lookup is
+ * a binary search followed by a walk over the matching range.</p>
+ *
+ * <p>The sorted arrays are immutable. Writes replace the student's entry and add its terms
+ * to a small concurrent sorted set read alongside them; terms of a replaced or deleted
+ * entry stay in place but are skipped. Once enough writes pile up, the set is merged into
+ * new arrays without the skipped terms, in one linear pass. Readers never lock.</p>
+ *
+ * <p>The index is built in the background once the application is ready; until then
+ * {@link #search} returns null and callers fall back to the database name search.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+public class StudentAutocompleteIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentAutocompleteIndex.class);
+
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    private static final int MIN_MERGE_WRITES = 4096;
+
+    // Terms in text order, then by student id so equal terms have a stable order
+    private static final Comparator<TermRef> TERM_ORDER = (a, b) -> compare(a.entry(), a.term(), b.entry(), b.term());
+
+    private final StudentScanner studentScanner;
+    private final boolean enabled;
+    private final int maxLimit;
+
+    // Current entry of every indexed student; terms pointing to any other entry are stale
+    private final Map<String, Entry> live = new ConcurrentHashMap<>();
+    private volatile Terms terms = new Terms(new Entry[0], new int[0], 0);
+    // Terms added and entries dropped since the last merge, guarded by this
+    private int pendingWrites;
+
+    // Students written while the initial build runs, which the build must not overwrite, guarded by this
+    private final Set<String> writtenDuringBuild = new HashSet<>();
+    private volatile boolean ready;
+
+    public StudentAutocompleteIndex(StudentScanner studentScanner,
+                                    @Value("${students.autocomplete.enabled:true}") boolean enabled,
+                                    @Value("${students.autocomplete.max-limit:50}") int maxLimit) {
+        this.studentScanner = studentScanner;
+        this.enabled = enabled;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Start building the index once the application is ready.
+     * It runs on a background thread so a large collection does not hold up startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::build, "student-autocomplete-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Load every student from the store, then start answering lookups.
+     */
+    public void build() {
+        long started = System.nanoTime();
+        List<StudentResponse> chunk = new ArrayList<>(BUILD_CHUNK_SIZE);
+        try (Stream<StudentResponse> students = studentScanner.scanAll()) {
+            for (StudentResponse student : (Iterable<StudentResponse>) students::iterator) {
+                chunk.add(student);
+                if (chunk.size() == BUILD_CHUNK_SIZE) {
+                    addBuilt(chunk);
+                }
+            }
+            addBuilt(chunk);
+        } catch (RuntimeException e) {
+            logger.warn("Student autocomplete index could not be built, autocomplete stays on the database: {}",
+                e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            merge();
+            writtenDuringBuild.clear();
+            ready = true;
+        }
+        logger.info("Student autocomplete index built with {} students in {} ms",
+            live.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Apply a student write to the index.
+     *
+     * @param event the student change
+     */
+    @EventListener
+    public synchronized void onStudentChange(StudentChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!ready) {
+            writtenDuringBuild.add(event.getStudentId());
+        }
+        if (event.getType() == StudentChangeEvent.Type.DELETED) {
+            if (live.remove(event.getStudentId()) != null) {
+                pendingWrites++;
+            }
+        } else {
+            put(event.getStudent());
+        }
+        if (pendingWrites > Math.max(MIN_MERGE_WRITES, terms.size / 8)) {
+            merge();
+        }
+    }
+
+    /**
+     * Whether the index is built and answers lookups.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Get the largest number of suggestions returned by one lookup.
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Find the students whose name, a word of their name, or email starts with the prefix,
+     * ignoring case and accents, in order of the matching term.
+     *
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions, capped at {@link #getMaxLimit()}
+     * @return the suggestions, each student at most once, or null if the index is not ready
+     */
+    public List<StudentSuggestion> search(String prefix, int limit) {
+        if (!ready) {
+            return null;
+        }
+        String normalized = StudentNameIndex.normalize(prefix);
+        int wanted = Math.min(limit, maxLimit);
+        List<StudentSuggestion> suggestions = new ArrayList<>(Math.min(wanted, 16));
+        if (normalized.isEmpty()) {
+            return suggestions;
+        }
+
+        Terms current = terms;
+        Set<String> seen = new HashSet<>();
+        int next = current.lowerBound(normalized);
+        Iterator<TermRef> recent = current.recent.tailSet(probe(normalized)).iterator();
+        TermRef nextRecent = nextMatch(recent, normalized);
+        while (suggestions.size() < wanted) {
+            boolean inArrays = next < current.size && startsWith(current.entries[next], current.terms[next], normalized);
+            if (!inArrays && nextRecent == null) {
+                break;
+            }
+            Entry entry;
+            if (nextRecent == null || (inArrays && compare(current.entries[next], current.terms[next],
+                    nextRecent.entry(), nextRecent.term()) <= 0)) {
+                entry = current.entries[next++];
+            } else {
+                entry = nextRecent.entry();
+                nextRecent = nextMatch(recent, normalized);
+            }
+            String id = entry.suggestion().getId();
+            if (live.get(id) == entry && seen.add(id)) {
+                suggestions.add(entry.suggestion());
+            }
+        }
+        return suggestions;
+    }
+
+    private synchronized void addBuilt(List<StudentResponse> chunk) {
+        for (StudentResponse student : chunk) {
+            if (!writtenDuringBuild.contains(student.getId())) {
+                put(student);
+            }
+        }
+        chunk.clear();
+    }
+
+    // Called holding the monitor
+    private void put(StudentResponse student) {
+        Entry entry = new Entry(new StudentSuggestion(student.getId(), student.getName(), student.getEmail()),
+            StudentNameIndex.normalize(student.getName()), StudentNameIndex.normalize(student.getEmail()));
+        if (live.put(student.getId(), entry) != null) {
+            pendingWrites++;
+        }
+        NavigableSet<TermRef> recent = terms.recent;
+        for (int term : termsOf(entry)) {
+            recent.add(new TermRef(entry, term));
+            pendingWrites++;
+        }
+    }
+
+    /**
+     * Merge the recently added terms into new sorted arrays, dropping stale terms.
+     * Called holding the monitor, so no term is added while it runs.
+     */
+    private void merge() {
+        Terms current = terms;
+        int capacity = current.size + pendingWrites;
+        Entry[] entries = new Entry[capacity];
+        int[] merged = new int[capacity];
+        int size = 0;
+
+        int next = 0;
+        Iterator<TermRef> recent = current.recent.iterator();
+        TermRef nextRecent = recent.hasNext() ? recent.next() : null;
+        while (next < current.size || nextRecent != null) {
+            Entry entry;
+            int term;
+            if (nextRecent == null || (next < current.size && compare(current.entries[next], current.terms[next],
+                    nextRecent.entry(), nextRecent.term()) <= 0)) {
+                entry = current.entries[next];
+                term = current.terms[next++];
+            } else {
+                entry = nextRecent.entry();
+                term = nextRecent.term();
+                nextRecent = recent.hasNext() ? recent.next() : null;
+            }
+            if (live.get(entry.suggestion().getId()) == entry) {
+                entries[size] = entry;
+                merged[size++] = term;
+            }
+        }
+
+        terms = new Terms(entries, merged, size);
+        pendingWrites = 0;
+    }
+
+    /**
+     * Terms of an entry: the name, each later word of the name, and the email.
+     * A term is packed as the offset into its source, shifted left once, with the low bit
+     * selecting the email rather than the name.
+     */
+    private static int[] termsOf(Entry entry) {
+        int[] terms = new int[entry.name().length() + 2];
+        int count = 0;
+        if (!entry.name().isEmpty()) {
+            terms[count++] = 0;
+            for (int i = 0; i < entry.name().length(); i++) {
+                if (entry.name().charAt(i) == ' ') {
+                    terms[count++] = (i + 1) << 1;
+                }
+            }
+        }
+        if (!entry.email().isEmpty()) {
+            terms[count++] = 1;
+        }
+        return Arrays.copyOf(terms, count);
+    }
+
+    private static String source(Entry entry, int term) {
+        return (term & 1) == 0 ? entry.name() : entry.email();
+    }
+
+    private static boolean startsWith(Entry entry, int term, String prefix) {
+        return source(entry, term).startsWith(prefix, term >>> 1);
+    }
+
+    private static int compare(Entry a, int termA, Entry b, int termB) {
+        String textA = source(a, termA);
+        String textB = source(b, termB);
+        int fromA = termA >>> 1;
+        int fromB = termB >>> 1;
+        int length = Math.min(textA.length() - fromA, textB.length() - fromB);
+        for (int i = 0; i < length; i++) {
+            int difference = textA.charAt(fromA + i) - textB.charAt(fromB + i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        int difference = (textA.length() - fromA) - (textB.length() - fromB);
+        return difference != 0 ? difference : a.suggestion().getId().compareTo(b.suggestion().getId());
+    }
+
+    /**
+     * A term sorting before every real term with the given text.
+     */
+    private static TermRef probe(String text) {
+        return new TermRef(new Entry(new StudentSuggestion("", null, null), text, ""), 0);
+    }
+
+    private static TermRef nextMatch(Iterator<TermRef> terms, String prefix) {
+        if (!terms.hasNext()) {
+            return null;
+        }
+        TermRef term = terms.next();
+        return startsWith(term.entry(), term.term(), prefix) ? term : null;
+    }
+
+    private record Entry(StudentSuggestion suggestion, String name, String email) {
+    }
+
+    private record TermRef(Entry entry, int term) {
+    }
+
+    /**
+     * Sorted terms as of the last merge, plus the terms added since.
+     */
+    private static final class Terms {
+
+        private final Entry[] entries;
+        private final int[] terms;
+        private final int size;
+        private final NavigableSet<TermRef> recent = new ConcurrentSkipListSet<>(TERM_ORDER);
+
+        Terms(Entry[] entries, int[] terms, int size) {
+            this.entries = entries;
+            this.terms = terms;
+            this.size = size;
+        }
+
+        /**
+         * Find the first term not sorting before the given text.
+         */
+        int lowerBound(String text) {
+            Entry probe = probe(text).entry();
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compare(entries[middle], terms[middle], probe, 0) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
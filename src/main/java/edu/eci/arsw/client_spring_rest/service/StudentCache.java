@@ -0,0 +1,151 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of students keyed by id and by email.
+ * Backed by the bounded Caffeine caches of the application cache manager.
+ *
+ * <p>Entries are only added by read-through loads, and a load runs atomically per key,
+ * so an eviction issued while a load is in flight waits for it and removes its result.
+ * Lookups that fail (for example a missing student) are not cached.</p>
+ *
+ * <p>Writes of this instance evict their students directly; writes of other instances
+ * or scripts are evicted when they arrive from the change stream. A change only names the
+ * student id, so the emails each student is cached under are tracked in a side cache with
+ * the same bounds as the email cache; when it drops an id, the emails of that id are
+ * dropped with it, so every cached email can be found from its id.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("!reactive")
+public class StudentCache {
+
+    public static final String BY_ID = "studentsById";
+    public static final String BY_EMAIL = "studentsByEmail";
+
+    private final Cache byId;
+    private final Cache byEmail;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Set<String>> emailsById;
+
+    public StudentCache(CacheManager cacheManager) {
+        this.byId = cacheManager.getCache(BY_ID);
+        this.byEmail = cacheManager.getCache(BY_EMAIL);
+
+        Policy<Object, StudentResponse> policy = nativeByEmail().policy();
+        Caffeine<Object, Object> emailsByIdBuilder = Caffeine.newBuilder();
+        policy.eviction().ifPresent(eviction -> emailsByIdBuilder.maximumSize(eviction.getMaximum()));
+        policy.expireAfterWrite().ifPresent(expiration ->
+            emailsByIdBuilder.expireAfterWrite(expiration.getExpiresAfter()));
+        this.emailsById = emailsByIdBuilder.<String, Set<String>>removalListener((id, emails, cause) -> {
+            if (cause.wasEvicted() && emails != null) {
+                emails.forEach(byEmail::evict);
+            }
+        }).build();
+    }
+
+    /**
+     * Get a student by id, loading it on a miss.
+     *
+     * @param id the student id
+     * @param loader loads the student, may throw to signal that it does not exist
+     * @return the cached or loaded student
+     */
+    public StudentResponse getById(String id, Supplier<StudentResponse> loader) {
+        return get(byId, id, loader);
+    }
+
+    /**
+     * Get a student by email, loading it on a miss.
+     *
+     * @param email the student email
+     * @param loader loads the student, may throw to signal that it does not exist
+     * @return the cached or loaded student
+     */
+    public StudentResponse getByEmail(String email, Supplier<StudentResponse> loader) {
+        return get(byEmail, email, () -> {
+            StudentResponse student = loader.get();
+            emailsById.get(student.getId(), id -> ConcurrentHashMap.newKeySet()).add(email);
+            return student;
+        });
+    }
+
+    /**
+     * Get a student by id only if it is cached.
+     *
+     * @param id the student id
+     * @return the cached student, or null on a miss
+     */
+    public StudentResponse getIfPresent(String id) {
+        return byId.get(id, StudentResponse.class);
+    }
+
+    /**
+     * Evict a student by id and every email it may be cached under.
+     *
+     * @param id the student id
+     * @param emails the emails of the student, old and new when the email changed
+     */
+    public void evict(String id, String... emails) {
+        StudentResponse cached = byId.get(id, StudentResponse.class);
+        byId.evict(id);
+
+        if (cached != null) {
+            byEmail.evict(cached.getEmail());
+        }
+        Set<String> cachedEmails = emailsById.asMap().remove(id);
+        if (cachedEmails != null) {
+            cachedEmails.forEach(byEmail::evict);
+        }
+        for (String email : emails) {
+            if (email != null) {
+                byEmail.evict(email);
+            }
+        }
+    }
+
+    /**
+     * Evict a student written elsewhere, read from the change stream.
+     * The previous email of an updated or deleted student is not part of the change; the
+     * emails it is cached under come from the side cache of emails by id.
+     *
+     * @param event the student change
+     */
+    @EventListener
+    public void onStudentChange(StudentChangeEvent event) {
+        if (!event.isFromChangeStream()) {
+            return;
+        }
+        evict(event.getStudentId(), event.getStudent() != null ? event.getStudent().getEmail() : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private com.github.benmanes.caffeine.cache.Cache<Object, StudentResponse> nativeByEmail() {
+        return (com.github.benmanes.caffeine.cache.Cache<Object, StudentResponse>) byEmail.getNativeCache();
+    }
+
+    private static StudentResponse get(Cache cache, String key, Supplier<StudentResponse> loader) {
+        try {
+            return cache.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            // Surface the loader's own exception (e.g. StudentNotFoundException)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+
+/**
+ * Application event published after a student has been written.
+ * Listeners use it to invalidate data derived from the students collection, or to
+ * update it from the written student without reading it back.
+ *
+ * <p>Writes made by this instance are published as they happen. {@link StudentChangeFeed}
+ * also publishes the writes it reads from the change stream that this instance has not
+ * applied yet, such as those of other instances or scripts, marked as from the change
+ * stream; a delete read from the change stream carries no student.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentChangeEvent {
+
+    /**
+     * Kind of write that happened.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final String studentId;
+    private final StudentResponse student;
+    private final boolean fromChangeStream;
+
+    /**
+     * @param type the kind of write
+     * @param studentId the id of the written student
+     * @param student the student as written, or as it was before a delete
+     */
+    public StudentChangeEvent(Type type, String studentId, StudentResponse student) {
+        this(type, studentId, student, false);
+    }
+
+    /**
+     * @param type the kind of write
+     * @param studentId the id of the written student
+     * @param student the student as written, or as it was before a delete, may be null
+     *                for a delete read from the change stream
+     * @param fromChangeStream whether the write was read from the change stream rather
+     *                         than made by this instance
+     */
+    public StudentChangeEvent(Type type, String studentId, StudentResponse student, boolean fromChangeStream) {
+        this.type = type;
+        this.studentId = studentId;
+        this.student = student;
+        this.fromChangeStream = fromChangeStream;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public boolean isFromChangeStream() {
+        return fromChangeStream;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentChangeEvent{" +
+                "type=" + type +
+                ", studentId='" + studentId + '\'' +
+                ", fromChangeStream=" + fromChangeStream +
+                '}';
+    }
+}
@@ -0,0 +1,269 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentChange;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Live feed of the changes committed to the students collection, read from a
+ * {@link StudentChangeSource} on a background thread.
+ *
+ * <p>Changes this instance has not applied yet, such as writes of other instances or
+ * scripts, are published as {@link StudentChangeEvent}s marked as from the change stream,
+ * so caches and indexes derived from the collection stay fresh across the cluster. Only
+ * the echo of a write made here, with the same version and update time, is held back;
+ * every other change is published, whatever its version. The
+ * last handled change is saved as a resume token at most once per save interval, and a
+ * restart continues after it.</p>
+ *
+ * <p>Clients follow the feed with {@link #changes(String)}. The latest changes are kept,
+ * so a client reconnecting with the id of the last change it saw gets what it missed.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+public class StudentChangeFeed implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentChangeFeed.class);
+
+    private static final int MAX_APPLIED = 10_000;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final StudentChangeSource changeSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int historySize;
+    private final int maxPending;
+    private final long saveIntervalNanos;
+    private final Sinks.Many<Entry> sink;
+
+    // Ids of the latest changes and their sequence number, guarded by itself
+    private final Map<String, Long> history = new LinkedHashMap<>();
+    // State of recent writes made here whose echo has not been read yet, guarded by itself
+    private final Map<String, State> applied = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile long lastSequence;
+    private volatile boolean available;
+    private volatile long session;
+    private long sessions;
+    private volatile boolean closed;
+    private String resumeToken;
+    private long lastSaveNanos;
+
+    public StudentChangeFeed(StudentChangeSource changeSource, ApplicationEventPublisher eventPublisher,
+                             @Value("${students.changes.enabled:true}") boolean enabled,
+                             @Value("${students.changes.history-size:1000}") int historySize,
+                             @Value("${students.changes.max-pending:1000}") int maxPending,
+                             @Value("${students.changes.token-save-interval:1s}") Duration saveInterval) {
+        this.changeSource = changeSource;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.historySize = historySize;
+        this.maxPending = maxPending;
+        this.saveIntervalNanos = saveInterval.toNanos();
+        this.sink = Sinks.many().replay().limit(historySize);
+        this.available = enabled;
+    }
+
+    /**
+     * Start following the change source once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::run, "student-change-feed");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Remember the state of a student written by this instance, so the same write read
+     * back from the change source is not applied again.
+     *
+     * @param event the student change
+     */
+    @EventListener
+    public void onStudentChange(StudentChangeEvent event) {
+        if (!event.isFromChangeStream()) {
+            synchronized (applied) {
+                applied.put(event.getStudentId(), State.of(event.getType(), event.getStudent()));
+                if (applied.size() > MAX_APPLIED) {
+                    applied.remove(applied.keySet().iterator().next());
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the feed is following the change source, or retrying to.
+     *
+     * @return false if it is disabled or the store cannot provide changes
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Get the current watch of the change source, so state derived from the changes can tell
+     * whether it saw every change since it was last read.
+     *
+     * @return a number that changes each time the source is watched anew, or 0 while no
+     *         watch is running and changes may be missed
+     */
+    public long getSession() {
+        return session;
+    }
+
+    /**
+     * Follow the changes from now, or after the change a client saw last.
+     * A slow client that falls more than the maximum pending changes behind gets an error,
+     * and can reconnect from its last change.
+     *
+     * @param lastEventId the id of the last change the client saw, or null
+     * @return the changes, starting with a RESET entry if the last one seen is no longer kept
+     */
+    public Flux<StudentChange> changes(String lastEventId) {
+        return Flux.defer(() -> {
+            Long seen = null;
+            if (lastEventId != null) {
+                synchronized (history) {
+                    seen = history.get(lastEventId);
+                }
+            }
+            // The sink replays the kept changes first; skip those the client already has
+            long after = seen != null ? seen : lastSequence;
+            Flux<StudentChange> changes = sink.asFlux()
+                .filter(entry -> entry.sequence() > after)
+                .map(Entry::change);
+            return lastEventId != null && seen == null ? changes.startWith(StudentChange.reset()) : changes;
+        }).onBackpressureBuffer(maxPending, BufferOverflowStrategy.ERROR);
+    }
+
+    private void run() {
+        boolean resumeTokenLoaded = false;
+        long retryDelay = 1000;
+        while (!closed) {
+            try {
+                if (!resumeTokenLoaded) {
+                    resumeToken = changeSource.loadResumeToken();
+                    resumeTokenLoaded = true;
+                }
+                String next;
+                try {
+                    next = changeSource.watch(resumeToken, () -> session = ++sessions, this::accept);
+                } finally {
+                    session = 0;
+                }
+                if (next == null) {
+                    logger.warn("Student change stream was invalidated, following changes from now on");
+                }
+                resumeToken = next;
+                saveResumeToken();
+                retryDelay = 1000;
+            } catch (UnsupportedOperationException e) {
+                logger.warn("Student change feed is not available: {}", e.getMessage());
+                available = false;
+                return;
+            } catch (RuntimeException e) {
+                if (closed) {
+                    return;
+                }
+                logger.warn("Student change stream failed, retrying in {} ms: {}", retryDelay, e.getMessage());
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY.toMillis());
+            }
+        }
+    }
+
+    /**
+     * Handle one change: publish it if it is not applied here yet, and hand it to clients.
+     *
+     * @param change the change read from the source
+     */
+    void accept(StudentChangeSource.Change change) {
+        if (!isEcho(change)) {
+            eventPublisher.publishEvent(new StudentChangeEvent(change.type(), change.studentId(),
+                change.student(), true));
+        }
+
+        long sequence = lastSequence + 1;
+        synchronized (history) {
+            history.put(change.token(), sequence);
+            if (history.size() > historySize) {
+                history.remove(history.keySet().iterator().next());
+            }
+        }
+        sink.tryEmitNext(new Entry(sequence, new StudentChange(change.token(), change.type().name(),
+            change.studentId(), change.student())));
+        lastSequence = sequence;
+
+        resumeToken = change.token();
+        if (System.nanoTime() - lastSaveNanos >= saveIntervalNanos) {
+            saveResumeToken();
+        }
+    }
+
+    private void saveResumeToken() {
+        try {
+            changeSource.saveResumeToken(resumeToken);
+            lastSaveNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            logger.warn("Student change stream resume token could not be saved: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a change is the echo of the last write made here to its student, forgetting
+     * that write once its echo arrived. A version alone cannot tell writes apart, it may
+     * be missing or reused by a writer that does not increment it.
+     *
+     * @param change the change read from the source
+     * @return true if the change is the write made here, already applied
+     */
+    private boolean isEcho(StudentChangeSource.Change change) {
+        State state = State.of(change.type(), change.student());
+        synchronized (applied) {
+            return applied.remove(change.studentId(), state);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        changeSource.stop();
+        sink.tryEmitComplete();
+    }
+
+    private record Entry(long sequence, StudentChange change) {
+    }
+
+    private record State(boolean deleted, Long version, LocalDateTime updatedAt) {
+
+        static State of(StudentChangeEvent.Type type, StudentResponse student) {
+            if (type == StudentChangeEvent.Type.DELETED || student == null) {
+                return new State(type == StudentChangeEvent.Type.DELETED, null, null);
+            }
+            return new State(false, student.getVersion(), student.getUpdatedAt());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * Source of the changes committed to the students collection by any writer, this
+ * instance, other instances or scripts, in commit order. Read by {@link StudentChangeFeed}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public interface StudentChangeSource {
+
+    /**
+     * Deliver changes until {@link #stop()} is called or the stream can no longer continue.
+     *
+     * @param resumeAfter the token of the last change handled, or null to start from now
+     * @param started called on the calling thread once changes are followed, before the first one
+     * @param consumer receives every change, in order, on the calling thread
+     * @return the token to resume from, or null if the stream was invalidated and must
+     *         start over from now
+     * @throws UnsupportedOperationException if the store cannot provide changes at all
+     */
+    String watch(String resumeAfter, Runnable started, Consumer<Change> consumer);
+
+    /**
+     * Whether this instance is the only writer of the collection, so its own writes are
+     * every change even when no watch is running.
+     *
+     * @return true for a store private to this instance
+     */
+    default boolean isSingleWriter() {
+        return false;
+    }
+
+    /**
+     * Make a running {@link #watch} return.
+     */
+    void stop();
+
+    /**
+     * Get the token saved with {@link #saveResumeToken}.
+     *
+     * @return the saved token, or null if none was saved
+     */
+    String loadResumeToken();
+
+    /**
+     * Save the token of the last handled change, so a restart continues after it.
+     *
+     * @param token the resume token, or null to start from now on the next restart
+     */
+    void saveResumeToken(String token);
+
+    /**
+     * One committed change.
+     *
+     * @param token the opaque resume token of the change
+     * @param type the kind of write
+     * @param studentId the id of the written student
+     * @param student the student after the write, null for deletes
+     */
+    record Change(String token, StudentChangeEvent.Type type, String studentId, StudentResponse student) {
+    }
+}
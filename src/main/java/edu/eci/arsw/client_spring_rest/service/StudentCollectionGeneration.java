@@ -0,0 +1,81 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation counter of the students collection, incremented on every student write.
+ * List endpoints derive their ETag from it, so an unchanged collection can be answered
+ * with 304 Not Modified without querying the database.
+ *
+ * <p>The generation is prefixed with the start time of this instance, so a counter reset
+ * on restart never reproduces an ETag handed out before.</p>
+ *
+ * <p>Writes of other instances and scripts only advance it when they arrive from the change
+ * feed, so ETags use {@link #currentForAllWriters()}, which is only given while the feed
+ * follows the collection (or this instance is its only writer) and changes with every new
+ * watch, since changes may have been missed in between.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+public class StudentCollectionGeneration {
+
+    private final StudentChangeSource changeSource;
+    private final StudentChangeFeed changeFeed;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastModified = System.currentTimeMillis();
+
+    public StudentCollectionGeneration(StudentChangeSource changeSource, StudentChangeFeed changeFeed) {
+        this.changeSource = changeSource;
+        this.changeFeed = changeFeed;
+    }
+
+    /**
+     * Advance the generation after a student write.
+     *
+     * @param event the student change
+     */
+    @EventListener
+    public void onStudentChange(StudentChangeEvent event) {
+        generation.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+    }
+
+    /**
+     * Get the current generation.
+     * Read it before querying, so a write racing with the query yields a newer generation.
+     *
+     * @return an opaque generation token
+     */
+    public String current() {
+        return epoch + "-" + generation.get();
+    }
+
+    /**
+     * Get the current generation if it reflects the writes of every writer, for ETags.
+     * Read it before querying, so a write racing with the query yields a newer generation.
+     *
+     * @return an opaque generation token, or null if writes of other instances may be missing
+     */
+    public String currentForAllWriters() {
+        if (changeSource.isSingleWriter()) {
+            return current();
+        }
+        long session = changeFeed.getSession();
+        return session != 0 ? current() + "-" + session : null;
+    }
+
+    /**
+     * Get the time of the last write seen by this instance.
+     *
+     * @return the epoch milliseconds of the last write, or of startup if none
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,154 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental CSV reader (RFC 4180): returns one record at a time from a character stream,
+ * so memory use does not depend on the size of the file.
+ *
+ * <p>Fields are separated by commas and records by CRLF or LF. A field starting with a double
+ * quote may contain commas, line breaks and doubled quotes; a quote inside an unquoted field
+ * is kept as is. Blank lines are skipped and a leading byte order mark is ignored. Records
+ * are bounded in length, so an unterminated quote fails the read instead of swallowing the
+ * rest of the file.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public class StudentCsvReader implements Closeable {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private long line = 1;
+    private long recordLine;
+    private int pushedBack = NONE;
+    private boolean started;
+
+    /**
+     * @param reader the characters to read, buffered by the caller
+     * @param maxRecordLength the largest accepted record, in characters
+     */
+    public StudentCsvReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException if the input cannot be read, a quoted field is not terminated,
+     *                     or a record is longer than allowed
+     */
+    public List<String> readRecord() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                endLine(c);
+                continue;
+            }
+            pushedBack = c;
+            recordLine = line;
+            return readFields();
+        }
+    }
+
+    /**
+     * Get the line on which the last read record starts, counting from 1.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readFields() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean fieldStart = true;
+        boolean quoted = false;
+        int length = 0;
+
+        while (true) {
+            int c = read();
+            if (++length > maxRecordLength) {
+                throw new IOException("The row starting at line " + recordLine + " is longer than "
+                    + maxRecordLength + " characters");
+            }
+
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field in the row starting at line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    endLine(c);
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+        }
+    }
+
+    private void endLine(int c) throws IOException {
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushedBack = next;
+            }
+        }
+        line++;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
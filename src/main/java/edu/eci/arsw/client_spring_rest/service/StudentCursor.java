@@ -0,0 +1,74 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor.
+ * Holds the sort key and the id of the last student of a page, encoded as a URL-safe token.
+ * The sort key is null for pages ordered only by id.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+public final class StudentCursor {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '\u0000';
+
+    private final String sortKey;
+    private final String lastId;
+
+    public StudentCursor(String sortKey, String lastId) {
+        this.sortKey = sortKey;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Decode a cursor token.
+     *
+     * @param token the token received from a client, may be null or blank for the first page
+     * @return the decoded cursor, or null if no token was given
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static StudentCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed pagination cursor");
+        }
+
+        // The id never contains the separator, so split on the first and last one only
+        int first = raw.indexOf(SEPARATOR);
+        int last = raw.lastIndexOf(SEPARATOR);
+        if (first < 0 || first == last || !VERSION.equals(raw.substring(0, first)) || last == raw.length() - 1) {
+            throw new IllegalArgumentException("Malformed pagination cursor");
+        }
+
+        String sortKey = raw.substring(first + 1, last);
+        return new StudentCursor(sortKey.isEmpty() ? null : sortKey, raw.substring(last + 1));
+    }
+
+    /**
+     * Encode this cursor as an opaque URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + (sortKey != null ? sortKey : "") + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public String getLastId() {
+        return lastId;
+    }
+}
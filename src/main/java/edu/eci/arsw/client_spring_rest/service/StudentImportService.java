@@ -0,0 +1,381 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.BulkItemResult;
+import edu.eci.arsw.client_spring_rest.dto.ImportJobStatus;
+import edu.eci.arsw.client_spring_rest.dto.ImportRowError;
+import edu.eci.arsw.client_spring_rest.dto.StudentCreateRequest;
+import edu.eci.arsw.client_spring_rest.exception.ImportJobNotFoundException;
+import edu.eci.arsw.client_spring_rest.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background import of students from CSV files.
+ * The upload is streamed to a temporary file, so the request ends as soon as the file is
+ * received; a job then reads it one row at a time and hands the rows to the chunked,
+ * unordered bulk insert of {@link StudentService#createStudents(Iterator, java.util.function.Consumer)},
+ * which validates them with the same rules as single creation. Memory use does not depend
+ * on the size of the file.
+ *
+ * <p>The CSV needs a header naming the name, email, birthDate and program columns, in any
+ * order and case; other columns are ignored. Jobs run one at a time by default, with a
+ * bounded queue, and their status (progress, rows per second, and the first row errors) is
+ * kept for a retention period after they finish.</p>
+ *
+ * <p>Imported rows are counted in students.import.rows by outcome.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Service
+@Profile("!reactive")
+public class StudentImportService implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportService.class);
+
+    private static final List<String> COLUMNS = List.of("name", "email", "birthDate", "program");
+
+    private final StudentService studentService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final int maxErrors;
+    private final int maxRowLength;
+    private final Duration jobRetention;
+    private final Counter createdRows;
+    private final Counter failedRows;
+
+    public StudentImportService(StudentService studentService, MeterRegistry meterRegistry,
+                                @Value("${students.import.max-concurrent-jobs:1}") int maxConcurrentJobs,
+                                @Value("${students.import.max-queued-jobs:10}") int maxQueuedJobs,
+                                @Value("${students.import.max-errors:1000}") int maxErrors,
+                                @Value("${students.import.max-row-length:65536}") int maxRowLength,
+                                @Value("${students.import.job-retention:1h}") Duration jobRetention) {
+        this.studentService = studentService;
+        this.maxErrors = maxErrors;
+        this.maxRowLength = maxRowLength;
+        this.jobRetention = jobRetention;
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxQueuedJobs), runnable -> {
+                Thread thread = new Thread(runnable, "student-import-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        this.createdRows = rowCounter(meterRegistry, "created");
+        this.failedRows = rowCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * Receive a CSV file and queue its import.
+     *
+     * @param csv the CSV content, read to the end before returning
+     * @return the status of the queued job
+     * @throws IOException if the content cannot be read or stored
+     * @throws ServiceOverloadedException if too many imports are already queued
+     */
+    public ImportJobStatus startImport(InputStream csv) throws IOException {
+        purgeFinishedJobs();
+        // Refuse before storing the upload when the queue is already full
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw tooManyImports();
+        }
+
+        Path file = Files.createTempFile("students-import-", ".csv");
+        ImportJob job = new ImportJob(UUID.randomUUID().toString());
+        try {
+            Files.copy(csv, file, StandardCopyOption.REPLACE_EXISTING);
+            jobs.put(job.id, job);
+            executor.execute(() -> run(job, file));
+        } catch (IOException | RejectedExecutionException e) {
+            jobs.remove(job.id);
+            Files.deleteIfExists(file);
+            if (e instanceof RejectedExecutionException) {
+                throw tooManyImports();
+            }
+            throw (IOException) e;
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * Get the status of an import job.
+     *
+     * @param id the job id
+     * @return the job status
+     * @throws ImportJobNotFoundException if the job is unknown or no longer kept
+     */
+    public ImportJobStatus getImport(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job with ID " + id + " not found");
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * Import the rows of a stored CSV file, then delete it.
+     */
+    private void run(ImportJob job, Path file) {
+        job.start();
+        // A decoding reader replaces bytes that are not UTF-8 instead of failing the whole file
+        try (StudentCsvReader csv = new StudentCsvReader(new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)), maxRowLength)) {
+            CsvRows rows = new CsvRows(csv, columns(csv.readRecord()));
+            studentService.createStudents(rows, result -> job.record(result, rows.settle(result.getIndex())));
+            job.finish(ImportJobStatus.State.COMPLETED, null);
+        } catch (UncheckedIOException e) {
+            fail(job, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            fail(job, e);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void fail(ImportJob job, Exception e) {
+        logger.warn("Student import {} failed", job.id, e);
+        job.finish(ImportJobStatus.State.FAILED, e.getMessage());
+    }
+
+    /**
+     * Map the CSV header to the position of each required column.
+     *
+     * @throws IOException if the file is empty or a required column is missing
+     */
+    static Map<String, Integer> columns(List<String> header) throws IOException {
+        if (header == null) {
+            throw new IOException("The CSV file is empty, a header row is required");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            for (String column : COLUMNS) {
+                if (column.toLowerCase(Locale.ROOT).equals(header.get(i).trim().toLowerCase(Locale.ROOT))) {
+                    columns.putIfAbsent(column, i);
+                }
+            }
+        }
+
+        List<String> missing = COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IOException("The CSV header is missing the columns " + missing);
+        }
+        return columns;
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime expired = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(expired));
+    }
+
+    private ServiceOverloadedException tooManyImports() {
+        return new ServiceOverloadedException("Too many student imports queued, please retry later");
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("students.import.rows")
+            .description("Rows of CSV student imports by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * The data rows of a CSV file as creation requests.
+     * The line of each row, and the errors found while reading it, are kept until the
+     * outcome of the row is known; at most a chunk of rows is pending at any time.
+     */
+    private final class CsvRows implements Iterator<StudentCreateRequest> {
+
+        private final StudentCsvReader csv;
+        private final Map<String, Integer> columns;
+        private final int minFields;
+        private final Map<Integer, PendingRow> pending = new HashMap<>();
+        private List<String> next;
+        private int index;
+
+        CsvRows(StudentCsvReader csv, Map<String, Integer> columns) {
+            this.csv = csv;
+            this.columns = columns;
+            this.minFields = columns.values().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new UncheckedIOException(new IOException("The import was interrupted"));
+                }
+                try {
+                    next = csv.readRecord();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public StudentCreateRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> fields = next;
+            next = null;
+
+            Map<String, String> errors = new LinkedHashMap<>();
+            StudentCreateRequest request = null;
+            if (fields.size() < minFields) {
+                errors.put("row", "Expected at least " + minFields + " fields but found " + fields.size());
+            } else {
+                request = new StudentCreateRequest(field(fields, "name"), field(fields, "email"), null,
+                    field(fields, "program"));
+                String birthDate = field(fields, "birthDate");
+                try {
+                    request.setBirthDate(birthDate != null ? LocalDate.parse(birthDate) : null);
+                } catch (DateTimeParseException e) {
+                    errors.put("birthDate", "Birth date must be a date in yyyy-MM-dd format");
+                }
+            }
+
+            pending.put(index++, new PendingRow(csv.getRecordLine(), errors));
+            return request;
+        }
+
+        PendingRow settle(int rowIndex) {
+            return pending.remove(rowIndex);
+        }
+
+        private String field(List<String> fields, String column) {
+            String value = fields.get(columns.get(column)).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    private record PendingRow(long line, Map<String, String> errors) {
+    }
+
+    /**
+     * Progress of one import, updated by its job thread and read by status requests.
+     */
+    private final class ImportJob {
+
+        private final String id;
+
+        // Guarded by this, so a status never shows a row counted in one total and not another
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private ImportJobStatus.State state = ImportJobStatus.State.QUEUED;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private long startNanos;
+        private long elapsedNanos;
+        private long rowsProcessed;
+        private long created;
+        private long failed;
+        private boolean errorsTruncated;
+        private String message;
+
+        ImportJob(String id) {
+            this.id = id;
+        }
+
+        synchronized void start() {
+            startNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            state = ImportJobStatus.State.RUNNING;
+        }
+
+        synchronized void record(BulkItemResult result, PendingRow row) {
+            rowsProcessed++;
+            if (result.getStatus() == BulkItemResult.Status.CREATED) {
+                created++;
+                createdRows.increment();
+                return;
+            }
+
+            failed++;
+            failedRows.increment();
+            if (errors.size() == maxErrors) {
+                errorsTruncated = true;
+                return;
+            }
+            // Errors found while reading the row explain it better than the validation of what was left
+            Map<String, String> rowErrors = new LinkedHashMap<>(result.getErrors());
+            rowErrors.keySet().removeIf(field -> "request".equals(field) || row.errors().containsKey(field));
+            rowErrors.putAll(row.errors());
+            errors.add(new ImportRowError(result.getIndex() + 1L, row.line(), result.getEmail(), rowErrors));
+        }
+
+        synchronized void finish(ImportJobStatus.State finalState, String failure) {
+            elapsedNanos = System.nanoTime() - startNanos;
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+            message = failure;
+        }
+
+        synchronized LocalDateTime getFinishedAt() {
+            return finishedAt;
+        }
+
+        synchronized ImportJobStatus toStatus() {
+            ImportJobStatus status = new ImportJobStatus();
+            status.setId(id);
+            status.setState(state);
+            status.setStartedAt(startedAt);
+            status.setFinishedAt(finishedAt);
+            status.setRowsProcessed(rowsProcessed);
+            status.setCreated(created);
+            status.setFailed(failed);
+            status.setMessage(message);
+            status.setErrors(List.copyOf(errors));
+            status.setErrorsTruncated(errorsTruncated);
+
+            long nanos = finishedAt != null ? elapsedNanos : startedAt != null ? System.nanoTime() - startNanos : 0;
+            status.setRowsPerSecond(nanos > 0 ? Math.round(rowsProcessed * 1e10 / nanos) / 10.0 : 0);
+            return status;
+        }
+    }
+}
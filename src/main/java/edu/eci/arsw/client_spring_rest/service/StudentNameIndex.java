@@ -0,0 +1,586 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram index of student names, serving substring name search without
+ * scanning the students collection.
+ *
+ * <p>Names are normalized (accents removed, lower case, single spaces) and every
+ * three-character sequence of a name, including one across a start-of-name marker, points
+ * to it through sorted posting lists of document numbers, kept apart by name length.
+ * Matches rank as exact name, name prefix, word prefix, then any substring, shorter names
+ * first; a search looks for each of these in turn, intersecting the posting lists of the
+ * marker plus query, space plus query, then query alone, from the shortest names up, and
+ * stops as soon as nothing left can outrank the matches it keeps. Patterns shorter than a
+ * trigram scan the names of each length instead.</p>
+ *
+ * <p>The index is built in the background once the application is ready and kept up to
+ * date from {@link StudentChangeEvent}s; until the build completes, {@link #search} returns
+ * null and callers fall back to the database. Only writes made through this instance are
+ * seen, as for the other derived data kept from change events.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+public class StudentNameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentNameIndex.class);
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\p{Cntrl}]+");
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    private static final int MAX_RANKED_LENGTH = 99_999;
+    // Names are bucketed by length up to this many characters, longer names share the last bucket
+    private static final int LENGTH_BUCKETS = 64;
+    // Marks the start of a name, so trigrams across it find name prefixes; normalization removes control characters
+    private static final char NAME_START = '\u0001';
+
+    // Match quality, best first
+    static final int EXACT = 0;
+    static final int PREFIX = 1;
+    static final int WORD_PREFIX = 2;
+    static final int SUBSTRING = 3;
+    static final int NO_MATCH = 9;
+
+    private static final Comparator<Match> RANK_ORDER = Comparator.comparingInt(Match::quality)
+        .thenComparingInt(match -> match.name().length())
+        .thenComparing(Match::name)
+        .thenComparing(Match::id);
+
+    private final StudentScanner studentScanner;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    // Every document, for queries too short to have trigrams
+    private final Postings allDocuments = new Postings();
+    // Normalized name and id by document number; a removed document keeps its number with a null name
+    private final List<String> names = new ArrayList<>();
+    private final List<String> ids = new ArrayList<>();
+    private final Map<String, Integer> documents = new HashMap<>();
+    private int removed;
+
+    // Students written while the initial build runs, which the build must not overwrite
+    private final Set<String> writtenDuringBuild = new HashSet<>();
+    private volatile boolean ready;
+
+    public StudentNameIndex(StudentScanner studentScanner,
+                            @Value("${students.search.name-index.enabled:true}") boolean enabled) {
+        this.studentScanner = studentScanner;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Start building the index once the application is ready.
+     * It runs on a background thread so a large collection does not hold up startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::build, "student-name-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Load every student name from the store, then start answering searches.
+     */
+    public void build() {
+        long started = System.nanoTime();
+        List<StudentResponse> chunk = new ArrayList<>(BUILD_CHUNK_SIZE);
+        try (Stream<StudentResponse> students = studentScanner.scanAll()) {
+            for (StudentResponse student : (Iterable<StudentResponse>) students::iterator) {
+                chunk.add(student);
+                if (chunk.size() == BUILD_CHUNK_SIZE) {
+                    addBuilt(chunk);
+                }
+            }
+            addBuilt(chunk);
+        } catch (RuntimeException e) {
+            logger.warn("Student name index could not be built, name search stays on the database: {}",
+                e.getMessage());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            writtenDuringBuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Student name index built with {} students in {} ms",
+            size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Apply a student write to the index.
+     *
+     * @param event the student change
+     */
+    @EventListener
+    public void onStudentChange(StudentChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                writtenDuringBuild.add(event.getStudentId());
+            }
+            if (event.getType() == StudentChangeEvent.Type.DELETED) {
+                remove(event.getStudentId());
+            } else {
+                put(event.getStudentId(), event.getStudent().getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the index is built and answers searches.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Get the number of indexed students.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the students whose normalized name contains the normalized query, best matches first.
+     *
+     * @param query the name or partial name to search for
+     * @param afterRankKey the rank key of the last match of the previous page, or null for the first page
+     * @param afterId the id of the last match of the previous page, or null for the first page
+     * @param limit the maximum number of matches to return
+     * @return the ids of the matching students in rank order, or null if the index is not ready
+     */
+    public List<String> search(String query, String afterRankKey, String afterId, int limit) {
+        if (!ready) {
+            return null;
+        }
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Match after = afterRankKey != null && afterId != null ? parseRankKey(afterRankKey, afterId) : null;
+
+        Search search = new Search(normalized, after, limit);
+        lock.readLock().lock();
+        try {
+            // Every match of a phase ranks after all matches of the phases before it
+            if (search.run(NAME_START + normalized, EXACT, PREFIX)
+                    && search.run(" " + normalized, WORD_PREFIX, WORD_PREFIX)) {
+                search.run(normalized, SUBSTRING, SUBSTRING);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PriorityQueue<Match> best = search.best;
+        Match[] ranked = best.toArray(new Match[0]);
+        Arrays.sort(ranked, RANK_ORDER);
+        List<String> matches = new ArrayList<>(ranked.length);
+        for (Match match : ranked) {
+            matches.add(match.id());
+        }
+        return matches;
+    }
+
+    /**
+     * Rank key of a student for a query, stored in search cursors.
+     * Keys sort in rank order: match quality, name length, then normalized name.
+     *
+     * @param query the searched name
+     * @param name the student name
+     * @return the rank key
+     */
+    public static String rankKey(String query, String name) {
+        String normalizedName = normalize(name);
+        int quality = matchQuality(normalizedName, normalize(query));
+        int length = Math.min(normalizedName.length(), MAX_RANKED_LENGTH);
+        StringBuilder key = new StringBuilder(normalizedName.length() + 6).append(quality);
+        String digits = Integer.toString(length);
+        for (int i = digits.length(); i < 5; i++) {
+            key.append('0');
+        }
+        return key.append(digits).append(normalizedName).toString();
+    }
+
+    /**
+     * Fold a name for matching: accents removed, lower case, runs of spaces collapsed.
+     *
+     * @param name the name, may be null
+     * @return the normalized name, empty for null
+     */
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    static int matchQuality(String normalizedName, String normalizedQuery) {
+        if (normalizedName.equals(normalizedQuery)) {
+            return EXACT;
+        }
+        if (normalizedName.startsWith(normalizedQuery)) {
+            return PREFIX;
+        }
+        int at = normalizedName.indexOf(normalizedQuery);
+        if (at < 0) {
+            return NO_MATCH;
+        }
+        // Any later occurrence may still start a word
+        for (; at >= 0; at = normalizedName.indexOf(normalizedQuery, at + 1)) {
+            if (normalizedName.charAt(at - 1) == ' ') {
+                return WORD_PREFIX;
+            }
+        }
+        return SUBSTRING;
+    }
+
+    /**
+     * One ranked search, run in phases of decreasing match quality and, within a phase,
+     * over buckets of increasing name length, so it can stop as soon as the kept matches
+     * outrank everything left to look at.
+     */
+    private final class Search {
+
+        private final String query;
+        private final Match after;
+        private final int limit;
+        // The best `limit` matches so far, with the worst of them at the head
+        private final PriorityQueue<Match> best;
+
+        Search(String query, Match after, int limit) {
+            this.query = query;
+            this.after = after;
+            this.limit = limit;
+            this.best = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+        }
+
+        /**
+         * Consider the documents containing {@code pattern} whose match quality falls in the given range.
+         *
+         * @return false if no later match can enter the results
+         */
+        boolean run(String pattern, int minQuality, int maxQuality) {
+            long[] trigrams = trigrams(pattern);
+            int first = bucket(query.length());
+            for (int bucket = first; bucket < LENGTH_BUCKETS; bucket++) {
+                // Names in a bucket are at least `bucket` characters long, and only the shortest can be exact
+                int bestQuality = bucket == first ? minQuality : maxQuality;
+                if (best.size() == limit && ranksBefore(best.peek(), bestQuality, bucket)) {
+                    return false;
+                }
+                if (after != null && bucket < LENGTH_BUCKETS - 1 && ranksBefore(maxQuality, bucket, after)) {
+                    continue;
+                }
+                DocumentList candidates = trigrams.length == 0 ? allDocuments.get(bucket) : intersect(trigrams, bucket);
+                if (candidates == null) {
+                    continue;
+                }
+                for (int i = 0; i < candidates.size; i++) {
+                    consider(candidates.documents[i], minQuality, maxQuality);
+                }
+            }
+            return true;
+        }
+
+        private void consider(int document, int minQuality, int maxQuality) {
+            String name = names.get(document);
+            if (name == null) {
+                return;
+            }
+            int quality = matchQuality(name, query);
+            if (quality < minQuality || quality > maxQuality) {
+                return;
+            }
+            // Most matches of a common query lose to the current worst on quality or length alone
+            if (best.size() == limit) {
+                Match worst = best.peek();
+                if (quality > worst.quality()
+                        || (quality == worst.quality() && name.length() > worst.name().length())) {
+                    return;
+                }
+            }
+            Match match = new Match(quality, name, ids.get(document));
+            if (after != null && RANK_ORDER.compare(match, after) <= 0) {
+                return;
+            }
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (RANK_ORDER.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        private static boolean ranksBefore(Match match, int quality, int length) {
+            return match.quality() < quality || (match.quality() == quality && match.name().length() < length);
+        }
+
+        private static boolean ranksBefore(int quality, int length, Match match) {
+            return quality < match.quality() || (quality == match.quality() && length < match.name().length());
+        }
+    }
+
+    /**
+     * Intersect the posting lists of the given trigrams within one name length bucket, shortest first.
+     *
+     * @return the documents containing every trigram, in document order, or null if there are none
+     */
+    private DocumentList intersect(long[] trigrams, int bucket) {
+        DocumentList[] lists = new DocumentList[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            Postings trigramPostings = postings.get(trigrams[i]);
+            lists[i] = trigramPostings == null ? null : trigramPostings.get(bucket);
+            if (lists[i] == null) {
+                return null;
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        DocumentList result = new DocumentList(Arrays.copyOf(lists[0].documents, lists[0].size));
+        for (int l = 1; l < lists.length && result.size > 0; l++) {
+            DocumentList list = lists[l];
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < result.size && from < list.size; i++) {
+                int document = result.documents[i];
+                from = gallop(list.documents, from, list.size, document);
+                if (from < list.size && list.documents[from] == document) {
+                    result.documents[kept++] = document;
+                    from++;
+                }
+            }
+            result.size = kept;
+        }
+        return result;
+    }
+
+    /**
+     * Find the first position at or after {@code from} holding a value not less than {@code target},
+     * probing at growing distances first, so walking a long list with few targets skips most of it.
+     */
+    private static int gallop(int[] values, int from, int to, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < to && values[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, to);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void addBuilt(List<StudentResponse> chunk) {
+        lock.writeLock().lock();
+        try {
+            for (StudentResponse student : chunk) {
+                if (!writtenDuringBuild.contains(student.getId())) {
+                    put(student.getId(), student.getName());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        chunk.clear();
+    }
+
+    // Called holding the write lock
+    private void put(String id, String name) {
+        String normalized = normalize(name);
+        Integer document = documents.get(id);
+        if (document != null) {
+            if (normalized.equals(names.get(document))) {
+                return;
+            }
+            remove(id);
+        }
+
+        // Documents are numbered in insertion order, so appending keeps posting lists sorted
+        int added = names.size();
+        names.add(normalized);
+        ids.add(id);
+        documents.put(id, added);
+        int bucket = bucket(normalized.length());
+        allDocuments.add(bucket, added);
+        for (long trigram : trigrams(NAME_START + normalized)) {
+            postings.computeIfAbsent(trigram, key -> new Postings()).add(bucket, added);
+        }
+    }
+
+    // Called holding the write lock
+    private void remove(String id) {
+        Integer document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        // Posting lists still reference the document until the next compaction
+        names.set(document, null);
+        removed++;
+        if (removed > 1024 && removed > names.size() / 4) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumber the live documents and rebuild the posting lists without removed documents.
+     */
+    private void compact() {
+        List<String> liveNames = new ArrayList<>(documents.size());
+        List<String> liveIds = new ArrayList<>(documents.size());
+        for (int document = 0; document < names.size(); document++) {
+            if (names.get(document) != null) {
+                liveNames.add(names.get(document));
+                liveIds.add(ids.get(document));
+            }
+        }
+        names.clear();
+        ids.clear();
+        documents.clear();
+        postings.clear();
+        allDocuments.clear();
+        removed = 0;
+        for (int i = 0; i < liveNames.size(); i++) {
+            put(liveIds.get(i), liveNames.get(i));
+        }
+    }
+
+    private static int bucket(int length) {
+        return Math.min(length, LENGTH_BUCKETS - 1);
+    }
+
+    /**
+     * Distinct trigrams of a normalized string, each packed into a long.
+     */
+    private static long[] trigrams(String normalized) {
+        if (normalized.length() < 3) {
+            return new long[0];
+        }
+        long[] trigrams = new long[normalized.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) normalized.charAt(i) << 32)
+                | ((long) normalized.charAt(i + 1) << 16)
+                | normalized.charAt(i + 2);
+        }
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    private static Match parseRankKey(String rankKey, String id) {
+        if (rankKey.length() < 6 || !Character.isDigit(rankKey.charAt(0))) {
+            throw new IllegalArgumentException("Malformed pagination cursor");
+        }
+        return new Match(rankKey.charAt(0) - '0', rankKey.substring(6), id);
+    }
+
+    private record Match(int quality, String name, String id) {
+    }
+
+    /**
+     * Sorted lists of document numbers, one per name length bucket.
+     */
+    private static final class Postings {
+
+        private DocumentList[] byLength = new DocumentList[0];
+
+        DocumentList get(int bucket) {
+            return bucket < byLength.length ? byLength[bucket] : null;
+        }
+
+        void add(int bucket, int document) {
+            if (bucket >= byLength.length) {
+                byLength = Arrays.copyOf(byLength, bucket + 1);
+            }
+            if (byLength[bucket] == null) {
+                byLength[bucket] = new DocumentList();
+            }
+            byLength[bucket].add(document);
+        }
+
+        void clear() {
+            byLength = new DocumentList[0];
+        }
+    }
+
+    /**
+     * Growable sorted list of document numbers.
+     */
+    private static final class DocumentList {
+
+        private int[] documents;
+        private int size;
+
+        DocumentList() {
+            this.documents = new int[4];
+        }
+
+        DocumentList(int[] documents) {
+            this.documents = documents;
+            this.size = documents.length;
+        }
+
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.eci.arsw.client_spring_rest.dto.BatchLookupResponse;
+import edu.eci.arsw.client_spring_rest.dto.PageResponse;
+import edu.eci.arsw.client_spring_rest.exception.DatabaseUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Last known good copy of student reads, served while the database is unavailable.
+ * Every successful read is remembered by operation and arguments; when the same read later
+ * fails because the circuit breaker is open or the database did not answer in time, the
+ * remembered result is returned instead of the error and the current request is marked as
+ * stale in the {@link #STALE_ATTRIBUTE} request attribute.
+ *
+ * <p>Results are bounded by the number of students they hold and expire after a maximum
+ * age, so a long outage eventually answers with errors rather than very old data. A
+ * remembered student read by id follows the writes of this instance and of the change
+ * stream, a deleted student is forgotten; other reads stay as they were read.</p>
+ *
+ * <p>Stale answers are counted in students.reads.stale by operation.</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("!reactive")
+public class StudentReadFallback {
+
+    public static final String STALE_ATTRIBUTE = StudentReadFallback.class.getName() + ".stale";
+
+    private static final String BY_ID_OPERATION = "getStudentById";
+
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Key, Object> lastKnownGood;
+    private final Map<String, Counter> staleCounters = new ConcurrentHashMap<>();
+
+    public StudentReadFallback(MeterRegistry meterRegistry,
+                               @Value("${students.reads.fallback.enabled:true}") boolean enabled,
+                               @Value("${students.reads.fallback.max-students:50000}") long maxStudents,
+                               @Value("${students.reads.fallback.max-age:1h}") Duration maxAge) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+        this.lastKnownGood = Caffeine.newBuilder()
+            .maximumWeight(maxStudents)
+            .weigher((Key key, Object result) -> weight(result))
+            .expireAfterWrite(maxAge)
+            .build();
+    }
+
+    /**
+     * Run a read and remember its result, or answer with the remembered result when the
+     * database is unavailable.
+     *
+     * @param operation the name of the read, used as metric tag
+     * @param call the read
+     * @param arguments the arguments that identify the read, may contain nulls
+     * @return the result of the read, or the last known good result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Supplier<T> call, Object... arguments) {
+        if (!enabled) {
+            return call.get();
+        }
+
+        Key key = new Key(operation, Arrays.asList(arguments));
+        try {
+            T result = call.get();
+            if (result != null) {
+                lastKnownGood.put(key, result);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            Object stale = isUnavailable(e) ? lastKnownGood.getIfPresent(key) : null;
+            if (stale == null) {
+                throw e;
+            }
+            markStale(operation);
+            return (T) stale;
+        }
+    }
+
+    /**
+     * Keep a remembered student read by id in step with its writes.
+     *
+     * @param event the student change
+     */
+    @EventListener
+    public void onStudentChange(StudentChangeEvent event) {
+        Key key = new Key(BY_ID_OPERATION, List.of(event.getStudentId()));
+        if (event.getType() == StudentChangeEvent.Type.DELETED || event.getStudent() == null) {
+            lastKnownGood.invalidate(key);
+        } else {
+            lastKnownGood.asMap().computeIfPresent(key, (k, previous) -> event.getStudent());
+        }
+    }
+
+    /**
+     * Whether a read failed because the database could not be reached or did not answer in time.
+     */
+    static boolean isUnavailable(RuntimeException e) {
+        return e instanceof DatabaseUnavailableException || e instanceof DataAccessResourceFailureException
+            || e instanceof TransientDataAccessException;
+    }
+
+    private void markStale(String operation) {
+        staleCounters.computeIfAbsent(operation, name -> Counter.builder("students.reads.stale")
+                .description("Student reads answered with the last known good result while the database is unavailable")
+                .tag("operation", name)
+                .register(meterRegistry))
+            .increment();
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(STALE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static int weight(Object result) {
+        if (result instanceof PageResponse<?> page) {
+            return Math.max(1, page.getContent().size());
+        }
+        if (result instanceof BatchLookupResponse batch) {
+            return Math.max(1, batch.getStudents().size());
+        }
+        if (result instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+
+    private record Key(String operation, List<Object> arguments) {
+    }
+}
@@ -0,0 +1,24 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+
+import java.util.stream.Stream;
+
+/**
+ * Reads every student of the store, for the in-memory indexes built at startup.
+ * Backed by the repository of the active stack, so the indexes do not pull in the
+ * blocking repository on the reactive stack.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface StudentScanner {
+
+    /**
+     * Read every student; blocks while reading, so call it off request and event loop threads.
+     *
+     * @return the students, to be closed by the caller
+     */
+    Stream<StudentResponse> scanAll();
+}
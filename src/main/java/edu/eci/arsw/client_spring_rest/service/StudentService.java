@@ -1,36 +1,109 @@
 package edu.eci.arsw.client_spring_rest.service;
 
+import edu.eci.arsw.client_spring_rest.config.StudentIndexManager;
+import edu.eci.arsw.client_spring_rest.dto.BatchLookupResponse;
+import edu.eci.arsw.client_spring_rest.dto.BulkCreateResponse;
+import edu.eci.arsw.client_spring_rest.dto.BulkItemResult;
+import edu.eci.arsw.client_spring_rest.dto.PageResponse;
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
 import edu.eci.arsw.client_spring_rest.dto.StudentCreateRequest;
 import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentSuggestion;
 import edu.eci.arsw.client_spring_rest.model.Student;
 import edu.eci.arsw.client_spring_rest.repository.StudentRepository;
 import edu.eci.arsw.client_spring_rest.exception.StudentNotFoundException;
 import edu.eci.arsw.client_spring_rest.exception.DuplicateEmailException;
+import edu.eci.arsw.client_spring_rest.exception.StudentPreconditionFailedException;
+import edu.eci.arsw.client_spring_rest.exception.StudentVersionConflictException;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Service class for Student business logic.
  * Handles all student-related operations and coordinates between controller and repository layers.
+ * Replaced by {@link ReactiveStudentService} when the "reactive" profile is active.
  * 
  * @author Generated
  * @version 1.0
  */
 @Service
 @Transactional
+@Profile("!reactive")
 public class StudentService {
 
+    public static final String PROGRAM_STATS_CACHE = "programStats";
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("name", "email", "birthDate", "program");
+
     private final StudentRepository studentRepository;
+    private final StudentCache studentCache;
+    private final StudentNameIndex nameIndex;
+    private final StudentAutocompleteIndex autocompleteIndex;
+    private final SingleFlight singleFlight;
+    private final StudentWriteBatcher writeBatcher;
+    private final StudentReadFallback readFallback;
+    private final ObjectProvider<StudentIndexManager> indexManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final int maxPageSize;
+    private final int bulkChunkSize;
+    private final int maxBatchIds;
 
-    public StudentService(StudentRepository studentRepository) {
+    public StudentService(StudentRepository studentRepository, StudentCache studentCache,
+                          StudentNameIndex nameIndex, StudentAutocompleteIndex autocompleteIndex, SingleFlight singleFlight,
+                          StudentWriteBatcher writeBatcher, StudentReadFallback readFallback,
+                          ObjectProvider<StudentIndexManager> indexManager, ApplicationEventPublisher eventPublisher, Validator validator,
+                          @Value("${students.pagination.max-limit:500}") int maxPageSize,
+                          @Value("${students.bulk.chunk-size:1000}") int bulkChunkSize,
+                          @Value("${students.batch.max-ids:1000}") int maxBatchIds) {
         this.studentRepository = studentRepository;
+        this.studentCache = studentCache;
+        this.nameIndex = nameIndex;
+        this.autocompleteIndex = autocompleteIndex;
+        this.singleFlight = singleFlight;
+        this.writeBatcher = writeBatcher;
+        this.readFallback = readFallback;
+        this.indexManager = indexManager;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.maxPageSize = maxPageSize;
+        this.bulkChunkSize = bulkChunkSize;
+        this.maxBatchIds = maxBatchIds;
     }
 
     /**
@@ -41,11 +114,6 @@ public class StudentService {
      * @throws DuplicateEmailException if email already exists
      */
     public StudentResponse createStudent(StudentCreateRequest request) {
-        // Check if email already exists
-        if (studentRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateEmailException("A student with email " + request.getEmail() + " already exists");
-        }
-
         // Create new student entity
         Student student = new Student(
             request.getName(),
@@ -54,28 +122,91 @@ public class StudentService {
             request.getProgram()
         );
 
-        // Save to database
-        Student savedStudent = studentRepository.save(student);
+        if (!isEmailIndexVerified() && studentRepository.existsByEmail(student.getEmail())) {
+            throw duplicateEmail(student.getEmail(), null);
+        }
+
+        // Save to database, the unique email index rejects duplicates;
+        // with write batching the insert is grouped with concurrent creations
+        Student savedStudent = writeBatcher.isEnabled() ? writeBatcher.insert(student) : saveStudent(student);
         
         // Convert to response DTO
-        return convertToResponse(savedStudent);
+        StudentResponse response = convertToResponse(savedStudent);
+        publishChange(StudentChangeEvent.Type.CREATED, response);
+        return response;
+    }
+
+    /**
+     * Create many students at once.
+     * Each entry is validated on its own; valid entries are inserted in chunks with
+     * unordered bulk writes, so one rejected entry does not stop the others.
+     * 
+     * @param requests the student creation requests, a null entry is reported as invalid
+     * @return the outcome of every entry, in request order
+     */
+    public BulkCreateResponse createStudents(Iterator<StudentCreateRequest> requests) {
+        List<BulkItemResult> results = new ArrayList<>();
+        createStudents(requests, results::add);
+
+        results.sort(Comparator.comparingInt(BulkItemResult::getIndex));
+        return new BulkCreateResponse(results);
+    }
+
+    /**
+     * Create many students at once, handing each outcome to a sink as soon as it is known
+     * instead of collecting them, so any number of entries can be streamed through.
+     * Invalid entries are reported at once and valid ones when their chunk is written,
+     * so outcomes are not in request order; each carries the index of its entry.
+     * 
+     * @param requests the student creation requests, a null entry is reported as invalid
+     * @param results receives the outcome of every entry
+     * @see #createStudents(Iterator)
+     */
+    public void createStudents(Iterator<StudentCreateRequest> requests, Consumer<BulkItemResult> results) {
+        List<Student> chunk = new ArrayList<>(bulkChunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(bulkChunkSize);
+
+        int index = 0;
+        while (requests.hasNext()) {
+            StudentCreateRequest request = requests.next();
+            Map<String, String> errors = validationErrors(validator, request);
+
+            if (!errors.isEmpty()) {
+                results.accept(BulkItemResult.invalid(index, request != null ? request.getEmail() : null, errors));
+            } else {
+                chunk.add(new Student(request.getName(), request.getEmail(),
+                    request.getBirthDate(), request.getProgram()));
+                chunkIndexes.add(index);
+
+                if (chunk.size() == bulkChunkSize) {
+                    insertChunk(chunk, chunkIndexes, results);
+                }
+            }
+            index++;
+        }
+        insertChunk(chunk, chunkIndexes, results);
     }
 
     /**
-     * Get all students.
+     * Get a page of students ordered by id.
      * 
-     * @return list of all students
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return the page of students
      */
     @Transactional(readOnly = true)
-    public List<StudentResponse> getAllStudents() {
-        return studentRepository.findAll()
-            .stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+    public PageResponse<StudentResponse> getAllStudents(String after, int limit) {
+        return read("getAllStudents", () -> {
+            StudentCursor cursor = StudentCursor.decode(after);
+            int pageSize = pageSize(limit, maxPageSize);
+
+            List<StudentResponse> students = studentRepository.findAllAfter(lastId(cursor), pageSize + 1);
+            return toPage(students, pageSize, student -> null);
+        }, after, limit);
     }
 
     /**
-     * Get student by ID.
+     * Get student by ID, served from the student cache when possible.
      * 
      * @param id the student ID
      * @return the student response
@@ -83,14 +214,33 @@ public class StudentService {
      */
     @Transactional(readOnly = true)
     public StudentResponse getStudentById(String id) {
-        Student student = studentRepository.findById(id)
-            .orElseThrow(() -> new StudentNotFoundException("Student with ID " + id + " not found"));
-        
-        return convertToResponse(student);
+        return read("getStudentById", () -> studentCache.getById(id, () -> {
+            Student student = studentRepository.findById(id)
+                .orElseThrow(() -> new StudentNotFoundException("Student with ID " + id + " not found"));
+            
+            return convertToResponse(student);
+        }), id);
+    }
+
+    /**
+     * Get many students by id.
+     * Cached students are served from the student cache and the rest are read with a
+     * single $in query. Repeated ids are resolved once.
+     * 
+     * @param ids the student ids
+     * @return the found students in request order and the ids that were not found
+     * @throws IllegalArgumentException if more ids than allowed are requested
+     */
+    @Transactional(readOnly = true)
+    public BatchLookupResponse getStudentsByIds(List<String> ids) {
+        return read("getStudentsByIds", () -> {
+            Set<String> uniqueIds = uniqueBatchIds(ids, maxBatchIds);
+            return toBatch(uniqueIds, findByIds(uniqueIds));
+        }, ids);
     }
 
     /**
-     * Get student by email.
+     * Get student by email, served from the student cache when possible.
      * 
      * @param email the student email
      * @return the student response
@@ -98,70 +248,155 @@ public class StudentService {
      */
     @Transactional(readOnly = true)
     public StudentResponse getStudentByEmail(String email) {
-        Student student = studentRepository.findByEmail(email)
-            .orElseThrow(() -> new StudentNotFoundException("Student with email " + email + " not found"));
-        
-        return convertToResponse(student);
+        return read("getStudentByEmail", () -> studentCache.getByEmail(email, () -> {
+            Student student = studentRepository.findByEmail(email)
+                .orElseThrow(() -> new StudentNotFoundException("Student with email " + email + " not found"));
+            
+            return convertToResponse(student);
+        }), email);
     }
 
     /**
-     * Get students by program.
+     * Get a page of students by program.
      * 
      * @param program the program name
-     * @return list of students in the program
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return the page of students in the program
      */
     @Transactional(readOnly = true)
-    public List<StudentResponse> getStudentsByProgram(String program) {
-        return studentRepository.findByProgram(program)
-            .stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+    public PageResponse<StudentResponse> getStudentsByProgram(String program, String after, int limit) {
+        return read("getStudentsByProgram", () -> {
+            StudentCursor cursor = StudentCursor.decode(after);
+            int pageSize = pageSize(limit, maxPageSize);
+
+            List<StudentResponse> students = studentRepository.findByProgramAfter(program, lastId(cursor), pageSize + 1);
+            return toPage(students, pageSize, student -> null);
+        }, program, after, limit);
     }
 
     /**
-     * Search students by name (case-insensitive).
+     * Search students by name, ignoring case and accents.
+     * Served from the trigram name index, best matches first; until the index is built,
+     * students are matched with a case-insensitive database scan in id order.
      * 
      * @param name the name or partial name to search for
-     * @return list of matching students
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return the page of matching students
      */
     @Transactional(readOnly = true)
-    public List<StudentResponse> searchStudentsByName(String name) {
-        return studentRepository.findByNameContainingIgnoreCase(name)
-            .stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+    public PageResponse<StudentResponse> searchStudentsByName(String name, String after, int limit) {
+        return read("searchStudentsByName", () -> {
+            StudentCursor cursor = StudentCursor.decode(after);
+            int pageSize = pageSize(limit, maxPageSize);
+
+            // Cursors of the database scan carry no rank key and keep paging there
+            if (cursor == null || cursor.getSortKey() != null) {
+                List<String> ids = nameIndex.search(name, cursor != null ? cursor.getSortKey() : null,
+                    lastId(cursor), pageSize + 1);
+                if (ids != null) {
+                    Map<String, StudentResponse> found = findByIds(ids);
+                    List<StudentResponse> students = new ArrayList<>(ids.size());
+                    for (String id : ids) {
+                        if (found.containsKey(id)) {
+                            students.add(found.get(id));
+                        }
+                    }
+                    return toPage(students, pageSize, student -> StudentNameIndex.rankKey(name, student.getName()));
+                }
+            }
+
+            List<StudentResponse> students = studentRepository.findByNameContainingIgnoreCaseAfter(
+                name, lastId(cursor), pageSize + 1);
+            return toPage(students, pageSize, student -> null);
+        }, name, after, limit);
+    }
+
+    /**
+     * Suggest students whose name, a word of their name, or email starts with a prefix.
+     * Served from the in-memory autocomplete index; until it is built, suggestions come
+     * from the database name search.
+     * 
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return the suggestions, best first
+     */
+    public List<StudentSuggestion> autocomplete(String prefix, int limit) {
+        List<StudentSuggestion> suggestions = autocompleteIndex.search(prefix, limit);
+        if (suggestions != null) {
+            return suggestions;
+        }
+        return studentRepository.findByNameContainingIgnoreCaseAfter(
+                prefix, null, Math.min(limit, autocompleteIndex.getMaxLimit())).stream()
+            .map(StudentService::toSuggestion)
+            .toList();
     }
 
     /**
      * Update student information.
+     * The update is a single atomic write; when the request carries a version, it is
+     * only applied if the stored student still has that version.
      * 
      * @param id the student ID
      * @param request the update request
      * @return the updated student response
      * @throws StudentNotFoundException if student not found
      * @throws DuplicateEmailException if email already exists for another student
+     * @throws StudentVersionConflictException if the student no longer has the expected version
      */
     public StudentResponse updateStudent(String id, StudentCreateRequest request) {
-        Student existingStudent = studentRepository.findById(id)
-            .orElseThrow(() -> new StudentNotFoundException("Student with ID " + id + " not found"));
+        return updateStudent(id, request, null);
+    }
 
-        // Check if email is being changed and if new email already exists
-        if (!existingStudent.getEmail().equals(request.getEmail()) && 
-            studentRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateEmailException("A student with email " + request.getEmail() + " already exists");
-        }
+    /**
+     * Update student information if it was last updated at one of the given times.
+     * 
+     * @param id the student ID
+     * @param request the update request
+     * @param expectedUpdatedAt the accepted last update times (from If-Match), or null for any
+     * @return the updated student response
+     * @throws StudentPreconditionFailedException if the student was last updated at another time
+     * @see #updateStudent(String, StudentCreateRequest)
+     */
+    public StudentResponse updateStudent(String id, StudentCreateRequest request,
+                                         Collection<LocalDateTime> expectedUpdatedAt) {
+        return applyUpdate(id, request.getVersion(), expectedUpdatedAt, replacedFields(request));
+    }
 
-        // Update student fields
-        existingStudent.setName(request.getName());
-        existingStudent.setEmail(request.getEmail());
-        existingStudent.setBirthDate(request.getBirthDate());
-        existingStudent.setProgram(request.getProgram());
-        existingStudent.setUpdatedAt(LocalDateTime.now());
+    /**
+     * Partially update a student (JSON Merge Patch).
+     * Only the fields present in the patch are validated and written, without reading
+     * the student first. A "version" field is used as the expected version.
+     * 
+     * @param id the student ID
+     * @param patch the patch values, only the properties named in {@code fields} are used
+     * @param fields the names of the properties present in the patch
+     * @return the updated student response
+     * @throws IllegalArgumentException if the patch names a field that cannot be patched, or no field
+     * @throws ConstraintViolationException if a patched value is invalid
+     * @throws StudentNotFoundException if student not found
+     * @throws DuplicateEmailException if email already exists for another student
+     * @throws StudentVersionConflictException if the student no longer has the expected version
+     */
+    public StudentResponse patchStudent(String id, StudentCreateRequest patch, Set<String> fields) {
+        return patchStudent(id, patch, fields, null);
+    }
 
-        // Save updated student
-        Student updatedStudent = studentRepository.save(existingStudent);
-        
-        return convertToResponse(updatedStudent);
+    /**
+     * Partially update a student if it was last updated at one of the given times.
+     * 
+     * @param id the student ID
+     * @param patch the patch values, only the properties named in {@code fields} are used
+     * @param fields the names of the properties present in the patch
+     * @param expectedUpdatedAt the accepted last update times (from If-Match), or null for any
+     * @return the updated student response
+     * @throws StudentPreconditionFailedException if the student was last updated at another time
+     * @see #patchStudent(String, StudentCreateRequest, Set)
+     */
+    public StudentResponse patchStudent(String id, StudentCreateRequest patch, Set<String> fields,
+                                        Collection<LocalDateTime> expectedUpdatedAt) {
+        return applyUpdate(id, patch.getVersion(), expectedUpdatedAt, patchedFields(validator, patch, fields));
     }
 
     /**
@@ -171,26 +406,48 @@ public class StudentService {
      * @throws StudentNotFoundException if student not found
      */
     public void deleteStudent(String id) {
-        if (!studentRepository.existsById(id)) {
-            throw new StudentNotFoundException("Student with ID " + id + " not found");
+        deleteStudent(id, null);
+    }
+
+    /**
+     * Delete student by ID if it was last updated at one of the given times.
+     * 
+     * @param id the student ID
+     * @param expectedUpdatedAt the accepted last update times (from If-Match), or null for any
+     * @throws StudentNotFoundException if student not found
+     * @throws StudentPreconditionFailedException if the student was last updated at another time
+     */
+    public void deleteStudent(String id, Collection<LocalDateTime> expectedUpdatedAt) {
+        Optional<Student> deleted = studentRepository.findAndRemoveById(id, expectedUpdatedAt);
+        if (deleted.isEmpty()) {
+            throw notUpdated(id, null, expectedUpdatedAt);
         }
+        Student deletedStudent = deleted.get();
         
-        studentRepository.deleteById(id);
+        studentCache.evict(id, deletedStudent.getEmail());
+        publishChange(StudentChangeEvent.Type.DELETED, convertToResponse(deletedStudent));
     }
 
     /**
-     * Get students born between two dates.
+     * Get a page of students born between two dates.
      * 
      * @param startDate the start date (inclusive)
      * @param endDate the end date (inclusive)
-     * @return list of students born between the dates
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return the page of students born between the dates
      */
     @Transactional(readOnly = true)
-    public List<StudentResponse> getStudentsByBirthDateRange(LocalDate startDate, LocalDate endDate) {
-        return studentRepository.findByBirthDateBetween(startDate, endDate)
-            .stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+    public PageResponse<StudentResponse> getStudentsByBirthDateRange(LocalDate startDate, LocalDate endDate,
+                                                                     String after, int limit) {
+        return read("getStudentsByBirthDateRange", () -> {
+            StudentCursor cursor = StudentCursor.decode(after);
+            int pageSize = pageSize(limit, maxPageSize);
+
+            List<StudentResponse> students = studentRepository.findByBirthDateBetweenAfter(
+                startDate, endDate, lastId(cursor), pageSize + 1);
+            return toPage(students, pageSize, student -> null);
+        }, startDate, endDate, after, limit);
     }
 
     /**
@@ -201,20 +458,466 @@ public class StudentService {
      */
     @Transactional(readOnly = true)
     public long getStudentCountByProgram(String program) {
-        return studentRepository.countByProgram(program);
+        return read("getStudentCountByProgram", () -> studentRepository.countByProgram(program), program);
+    }
+
+    /**
+     * Get statistics for every program, computed with one aggregation.
+     * The result is memoized in the short-lived "programStats" cache and evicted on any write.
+     * 
+     * @return the statistics of each program, ordered by program
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = PROGRAM_STATS_CACHE, key = "'all'")
+    public List<ProgramStats> getProgramStats() {
+        return read("getProgramStats", studentRepository::aggregateProgramStats);
+    }
+
+    /**
+     * Drop the memoized program statistics after any student write.
+     * 
+     * @param event the student change
+     */
+    @EventListener
+    @CacheEvict(cacheNames = PROGRAM_STATS_CACHE, allEntries = true)
+    public void onStudentChange(StudentChangeEvent event) {
+        // Eviction is handled by @CacheEvict
+    }
+
+    /**
+     * Get a page of students ordered by name.
+     * 
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of students to return
+     * @return the page of students ordered by name
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<StudentResponse> getAllStudentsOrderedByName(String after, int limit) {
+        return read("getAllStudentsOrderedByName", () -> {
+            StudentCursor cursor = StudentCursor.decode(after);
+            int pageSize = pageSize(limit, maxPageSize);
+
+            List<StudentResponse> students = studentRepository.findAllOrderByNameAfter(
+                cursor != null ? cursor.getSortKey() : null, lastId(cursor), pageSize + 1);
+            return toPage(students, pageSize, StudentResponse::getName);
+        }, after, limit);
     }
 
     /**
-     * Get all students ordered by name.
+     * Export students one by one from a database cursor, optionally filtered.
+     * Students are handed to the sink as they are read, so memory use does not
+     * depend on the number of exported students.
      * 
-     * @return list of students ordered by name
+     * @param program the program name, or null for every program
+     * @param startDate the start birth date (inclusive), or null for no lower bound
+     * @param endDate the end birth date (inclusive), or null for no upper bound
+     * @param sink receives each exported student
+     * @return the number of exported students
      */
     @Transactional(readOnly = true)
-    public List<StudentResponse> getAllStudentsOrderedByName() {
-        return studentRepository.findAllOrderByName()
-            .stream()
-            .map(this::convertToResponse)
-            .collect(Collectors.toList());
+    public long exportStudents(String program, LocalDate startDate, LocalDate endDate,
+                               Consumer<StudentResponse> sink) {
+        long exported = 0;
+        try (Stream<StudentResponse> students = studentRepository.streamByFilter(program, startDate, endDate)) {
+            for (StudentResponse student : (Iterable<StudentResponse>) students::iterator) {
+                sink.accept(student);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * Apply an atomic field update and return the updated student.
+     * The repository returns the student as it was before the update, which gives the
+     * previous email to evict from the cache; the new state is rebuilt from it in memory.
+     * 
+     * @param id the student ID
+     * @param expectedVersion the version the student must have, or null for any version
+     * @param expectedUpdatedAt the accepted last update times, or null for any
+     * @param fields the new values by property name
+     * @return the updated student response
+     */
+    private StudentResponse applyUpdate(String id, Long expectedVersion,
+                                        Collection<LocalDateTime> expectedUpdatedAt, Map<String, Object> fields) {
+        stampUpdatedAt(fields);
+
+        String email = (String) fields.get("email");
+        if (email != null && !isEmailIndexVerified()
+                && studentRepository.findByEmail(email).filter(other -> !other.getId().equals(id)).isPresent()) {
+            throw duplicateEmail(email, null);
+        }
+
+        Optional<Student> previous;
+        try {
+            previous = studentRepository.updateFields(id, expectedVersion, expectedUpdatedAt, fields);
+        } catch (DuplicateKeyException e) {
+            throw duplicateEmail(email, e);
+        }
+
+        if (previous.isEmpty()) {
+            throw notUpdated(id, expectedVersion, expectedUpdatedAt);
+        }
+
+        Student student = previous.get();
+        String previousEmail = student.getEmail();
+
+        applyFields(student, fields);
+        studentCache.evict(id, previousEmail, student.getEmail());
+
+        StudentResponse response = convertToResponse(student);
+        publishChange(StudentChangeEvent.Type.UPDATED, response);
+        return response;
+    }
+
+    /**
+     * Explain why a conditional write matched no student.
+     * Only this failure path pays a second round trip to tell the cases apart.
+     * 
+     * @return the exception to throw
+     */
+    private RuntimeException notUpdated(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt) {
+        boolean conditional = expectedVersion != null || expectedUpdatedAt != null;
+        return notUpdated(id, expectedVersion, expectedUpdatedAt, conditional && studentRepository.existsById(id));
+    }
+
+    /**
+     * Build the exception for a conditional write that matched no student.
+     * 
+     * @param exists whether a student with the id exists
+     * @return the exception to throw
+     */
+    static RuntimeException notUpdated(String id, Long expectedVersion, Collection<LocalDateTime> expectedUpdatedAt,
+                                       boolean exists) {
+        if (!exists) {
+            return new StudentNotFoundException("Student with ID " + id + " not found");
+        }
+        if (expectedUpdatedAt != null) {
+            return new StudentPreconditionFailedException("Student with ID " + id
+                + " does not match the If-Match precondition");
+        }
+        return new StudentVersionConflictException("Student with ID " + id
+            + " was modified concurrently, expected version " + expectedVersion);
+    }
+
+    /**
+     * Resolve students by id from the student cache, reading the rest with a single $in query.
+     * 
+     * @param ids the student ids, without repeats
+     * @return the found students by id
+     */
+    private Map<String, StudentResponse> findByIds(Collection<String> ids) {
+        Map<String, StudentResponse> found = new HashMap<>();
+        List<String> toFetch = new ArrayList<>();
+        for (String id : ids) {
+            StudentResponse cached = studentCache.getIfPresent(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                toFetch.add(id);
+            }
+        }
+
+        for (StudentResponse student : studentRepository.findByIdIn(toFetch)) {
+            found.put(student.getId(), student);
+        }
+        return found;
+    }
+
+    /**
+     * Run a read through the single flight, answering with its last known good result
+     * while the database is unavailable.
+     * 
+     * @param operation the name of the read
+     * @param call the read
+     * @param arguments the arguments that identify the read
+     * @return the result of the read
+     */
+    private <T> T read(String operation, Supplier<T> call, Object... arguments) {
+        return readFallback.execute(operation, () -> singleFlight.execute(operation, call, arguments), arguments);
+    }
+
+    /**
+     * Whether the unique email index is known to reject duplicate emails.
+     * Until it is, writes look for an existing student with the email first. The in-memory
+     * repository has no index manager and keeps its own unique email index.
+     */
+    private boolean isEmailIndexVerified() {
+        StudentIndexManager manager = indexManager.getIfAvailable();
+        return manager == null || manager.isEmailIndexVerified();
+    }
+
+    static DuplicateEmailException duplicateEmail(String email, Throwable cause) {
+        return new DuplicateEmailException("A student with email " + email + " already exists", cause);
+    }
+
+    private void publishChange(StudentChangeEvent.Type type, StudentResponse student) {
+        eventPublisher.publishEvent(new StudentChangeEvent(type, student.getId(), student));
+    }
+
+    /**
+     * Save a student, translating a unique email index violation.
+     * The email index is the only unique index besides the id, so a duplicate key
+     * always means the email belongs to another student.
+     * 
+     * @param student the student to save
+     * @return the saved student
+     * @throws DuplicateEmailException if the email already exists for another student
+     */
+    private Student saveStudent(Student student) {
+        try {
+            return studentRepository.save(student);
+        } catch (DuplicateKeyException e) {
+            throw duplicateEmail(student.getEmail(), e);
+        }
+    }
+
+    /**
+     * Validate one bulk entry with the same rules as single creation.
+     * 
+     * @param validator the bean validator
+     * @param request the entry, may be null
+     * @return the validation errors by field, empty if the entry is valid
+     */
+    static Map<String, String> validationErrors(Validator validator, StudentCreateRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        if (request == null) {
+            errors.put("request", "Entry must be a student object");
+            return errors;
+        }
+
+        Set<ConstraintViolation<StudentCreateRequest>> violations = validator.validate(request);
+        for (ConstraintViolation<StudentCreateRequest> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    /**
+     * Insert a chunk of bulk entries and record their outcome, then clear the chunk.
+     * 
+     * @param chunk the students to insert
+     * @param chunkIndexes the request index of each student in the chunk
+     * @param results receives the outcome of each student
+     */
+    private void insertChunk(List<Student> chunk, List<Integer> chunkIndexes, Consumer<BulkItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<Integer> duplicates = isEmailIndexVerified()
+            ? studentRepository.insertAllUnordered(chunk)
+            : insertCheckingEmails(chunk);
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Student student = chunk.get(i);
+            int index = chunkIndexes.get(i);
+            if (duplicates.contains(i)) {
+                results.accept(BulkItemResult.duplicateEmail(index, student.getEmail()));
+            } else {
+                results.accept(BulkItemResult.created(index, student.getId(), student.getEmail()));
+                publishChange(StudentChangeEvent.Type.CREATED, convertToResponse(student));
+            }
+        }
+
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    /**
+     * Insert a chunk of bulk entries, first leaving out those whose email is already taken,
+     * for when the unique email index cannot be relied on.
+     * 
+     * @param chunk the students to insert
+     * @return the positions in {@code chunk} of the students with a duplicate email
+     */
+    private Set<Integer> insertCheckingEmails(List<Student> chunk) {
+        Set<String> taken = new HashSet<>();
+        studentRepository.findByEmailIn(chunk.stream().map(Student::getEmail).toList())
+            .forEach(student -> taken.add(student.getEmail()));
+
+        Set<Integer> duplicates = takenEmails(chunk, taken);
+        List<Integer> positions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!duplicates.contains(i)) {
+                positions.add(i);
+            }
+        }
+
+        for (int rejected : studentRepository.insertAllUnordered(positions.stream().map(chunk::get).toList())) {
+            duplicates.add(positions.get(rejected));
+        }
+        return duplicates;
+    }
+
+    /**
+     * Find the students of a chunk whose email is already taken or repeated earlier in the chunk.
+     * 
+     * @param chunk the students to check
+     * @param taken the emails already stored, the emails of the chunk are added to it
+     * @return the positions in {@code chunk} of the students with a duplicate email
+     */
+    static Set<Integer> takenEmails(List<Student> chunk, Set<String> taken) {
+        Set<Integer> duplicates = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!taken.add(chunk.get(i).getEmail())) {
+                duplicates.add(i);
+            }
+        }
+        return duplicates;
+    }
+
+    /**
+     * Turn a student into an autocomplete suggestion.
+     */
+    static StudentSuggestion toSuggestion(StudentResponse student) {
+        return new StudentSuggestion(student.getId(), student.getName(), student.getEmail());
+    }
+
+    /**
+     * Clamp a requested page size to the configured bounds.
+     * 
+     * @param limit the requested page size
+     * @param maxPageSize the largest allowed page size
+     * @return the page size to use
+     */
+    static int pageSize(int limit, int maxPageSize) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    /**
+     * Collect the fields written by a full update.
+     * 
+     * @param request the update request
+     * @return the new values by property name
+     */
+    static Map<String, Object> replacedFields(StudentCreateRequest request) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", request.getName());
+        fields.put("email", request.getEmail());
+        fields.put("birthDate", request.getBirthDate());
+        fields.put("program", request.getProgram());
+        return fields;
+    }
+
+    /**
+     * Validate and collect the fields present in a merge patch.
+     * 
+     * @param validator the bean validator
+     * @param patch the patch values
+     * @param fields the names of the properties present in the patch
+     * @return the new values by property name
+     * @throws IllegalArgumentException if the patch names a field that cannot be patched, or no field
+     * @throws ConstraintViolationException if a patched value is invalid
+     */
+    static Map<String, Object> patchedFields(Validator validator, StudentCreateRequest patch, Set<String> fields) {
+        BeanWrapper values = PropertyAccessorFactory.forBeanPropertyAccess(patch);
+        Map<String, Object> updates = new LinkedHashMap<>();
+        Set<ConstraintViolation<StudentCreateRequest>> violations = new HashSet<>();
+
+        for (String field : fields) {
+            if ("version".equals(field)) {
+                continue;
+            }
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field " + field + " cannot be patched");
+            }
+            violations.addAll(validator.validateProperty(patch, field));
+            updates.put(field, values.getPropertyValue(field));
+        }
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        if (updates.isEmpty()) {
+            throw new IllegalArgumentException("Patch must contain at least one of " + PATCHABLE_FIELDS);
+        }
+        return updates;
+    }
+
+    /**
+     * Add the update time to the fields of an update.
+     * Stored dates have millisecond precision, keep the response (and its ETag) identical.
+     */
+    static void stampUpdatedAt(Map<String, Object> fields) {
+        fields.put("updatedAt", LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    /**
+     * Rebuild the updated state of a student from its previous state and the written fields.
+     * 
+     * @param student the student as it was before the update, modified in place
+     * @param fields the written values by property name
+     */
+    static void applyFields(Student student, Map<String, Object> fields) {
+        Long previousVersion = student.getVersion();
+
+        // Direct field access, so the entity setters do not touch updatedAt
+        PropertyAccessorFactory.forDirectFieldAccess(student).setPropertyValues(fields);
+        student.setVersion(previousVersion != null ? previousVersion + 1 : 1L);
+    }
+
+    /**
+     * Deduplicate the ids of a batch lookup, keeping request order.
+     * 
+     * @throws IllegalArgumentException if more ids than allowed are requested
+     */
+    static Set<String> uniqueBatchIds(List<String> ids, int maxBatchIds) {
+        Set<String> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " ids can be requested at once");
+        }
+        return uniqueIds;
+    }
+
+    /**
+     * Arrange the students found by a batch lookup in request order.
+     * 
+     * @param uniqueIds the requested ids in request order
+     * @param found the found students by id
+     * @return the found students and the ids that were not found
+     */
+    static BatchLookupResponse toBatch(Set<String> uniqueIds, Map<String, StudentResponse> found) {
+        List<StudentResponse> students = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String id : uniqueIds) {
+            StudentResponse student = found.get(id);
+            if (student != null) {
+                students.add(student);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BatchLookupResponse(students, missingIds);
+    }
+
+    static String lastId(StudentCursor cursor) {
+        return cursor != null ? cursor.getLastId() : null;
+    }
+
+    /**
+     * Build a page from a query that fetched one row more than the page size.
+     * The extra row only signals that a next page exists and is not returned.
+     * 
+     * @param students the fetched students, at most {@code pageSize + 1}
+     * @param pageSize the page size
+     * @param sortKey extracts the sort key stored in the cursor, returning null for id-ordered pages
+     * @return the page with its next cursor
+     */
+    static PageResponse<StudentResponse> toPage(List<StudentResponse> students, int pageSize,
+                                                 Function<StudentResponse, String> sortKey) {
+        boolean hasNext = students.size() > pageSize;
+        List<StudentResponse> content = hasNext ? students.subList(0, pageSize) : students;
+
+        String nextCursor = null;
+        if (hasNext) {
+            StudentResponse last = content.get(content.size() - 1);
+            nextCursor = new StudentCursor(sortKey.apply(last), last.getId()).encode();
+        }
+
+        return new PageResponse<>(content, nextCursor);
     }
 
     /**
@@ -223,7 +926,7 @@ public class StudentService {
      * @param student the student entity
      * @return the student response DTO
      */
-    private StudentResponse convertToResponse(Student student) {
+    static StudentResponse convertToResponse(Student student) {
         return new StudentResponse(
             student.getId(),
             student.getName(),
@@ -231,7 +934,8 @@ public class StudentService {
             student.getBirthDate(),
             student.getProgram(),
             student.getCreatedAt(),
-            student.getUpdatedAt()
+            student.getUpdatedAt(),
+            student.getVersion()
         );
     }
 }
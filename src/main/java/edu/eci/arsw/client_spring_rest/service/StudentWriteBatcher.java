@@ -0,0 +1,218 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.exception.DuplicateEmailException;
+import edu.eci.arsw.client_spring_rest.exception.ServiceOverloadedException;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import edu.eci.arsw.client_spring_rest.repository.StudentRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for single student creation: concurrent inserts are queued and written
+ * together by one dispatcher thread, as one unordered bulk insert per micro-batch.
+ * A batch is written when it reaches the maximum size or when its first student has
+ * waited the linger time, whichever comes first, so an idle service adds at most the
+ * linger to a create.
+ *
+ * <p>Every caller gets its own outcome: the saved student, or a {@link DuplicateEmailException}
+ * when the unique email index rejected its document. The index reports each rejected
+ * position of the batch, two callers with the same email in one batch included, so no
+ * email lookup is needed before the write.</p>
+ *
+ * <p>Metrics: {@code students.create.batch.size} (students per written batch) and
+ * {@code students.create.batch.queue-delay} (time from enqueue to the start of the write).</p>
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@Component
+@Profile("!reactive")
+public class StudentWriteBatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentWriteBatcher.class);
+
+    private final StudentRepository studentRepository;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final long timeoutNanos;
+    private final BlockingQueue<PendingInsert> queue;
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+    private final Thread dispatcher;
+
+    public StudentWriteBatcher(StudentRepository studentRepository, MeterRegistry meterRegistry,
+                               @Value("${students.write-batching.enabled:false}") boolean enabled,
+                               @Value("${students.write-batching.max-batch-size:64}") int maxBatchSize,
+                               @Value("${students.write-batching.linger:2ms}") Duration linger,
+                               @Value("${students.write-batching.queue-capacity:10000}") int queueCapacity,
+                               @Value("${students.write-batching.timeout:10s}") Duration timeout) {
+        this.studentRepository = studentRepository;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerNanos = linger.toNanos();
+        this.timeoutNanos = timeout.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = DistributionSummary.builder("students.create.batch.size")
+            .description("Students written per group commit batch")
+            .baseUnit("students")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(1.0)
+            .maximumExpectedValue((double) maxBatchSize)
+            .register(meterRegistry);
+        this.queueDelay = Timer.builder("students.create.batch.queue-delay")
+            .description("Time a student creation waited in the group commit queue")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        if (enabled) {
+            dispatcher = new Thread(this::dispatch, "student-write-batcher");
+            dispatcher.setDaemon(true);
+            dispatcher.start();
+        } else {
+            dispatcher = null;
+        }
+    }
+
+    /**
+     * Whether creations should go through {@link #insert(Student)}.
+     *
+     * @return true if group commit is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Insert a student with the next batch and wait for the outcome.
+     *
+     * @param student the student to insert, its id is assigned on write
+     * @return the saved student
+     * @throws DuplicateEmailException if the email already exists for another student
+     * @throws ServiceOverloadedException if the queue is full, or the outcome did not arrive within
+     *         the timeout (a write already in progress may still complete after that)
+     */
+    public Student insert(Student student) {
+        PendingInsert pending = new PendingInsert(student, new CompletableFuture<>(), System.nanoTime());
+        if (!queue.offer(pending)) {
+            throw new ServiceOverloadedException("Too many student creations waiting to be written, please retry later");
+        }
+
+        try {
+            return pending.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // Surface the exception of this caller's write, as if it had run here
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Student creation failed", e.getCause());
+        } catch (TimeoutException e) {
+            // Still queued means never written: drop it so a late dispatcher does not write it
+            queue.remove(pending);
+            throw new ServiceOverloadedException("Student creation was not written in time, please retry later", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new ServiceOverloadedException("Student creation was interrupted while waiting to be written", e);
+        }
+    }
+
+    private void dispatch() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                PendingInsert first = queue.take();
+                batch.add(first);
+                long deadline = first.enqueuedNanos() + lingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    // Take what is already queued without waiting, then wait out the linger
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingInsert next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Write one batch and complete every caller with its own outcome.
+     *
+     * @param batch the queued inserts
+     */
+    void write(List<PendingInsert> batch) {
+        long start = System.nanoTime();
+        List<Student> students = new ArrayList<>(batch.size());
+        for (PendingInsert pending : batch) {
+            queueDelay.record(start - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            students.add(pending.student());
+        }
+        batchSize.record(batch.size());
+
+        Set<Integer> duplicates;
+        try {
+            duplicates = studentRepository.insertAllUnordered(students);
+        } catch (RuntimeException e) {
+            logger.warn("Group commit of {} students failed", batch.size(), e);
+            for (PendingInsert pending : batch) {
+                pending.result().completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingInsert pending = batch.get(i);
+            if (duplicates.contains(i)) {
+                pending.result().completeExceptionally(new DuplicateEmailException(
+                    "A student with email " + pending.student().getEmail() + " already exists"));
+            } else {
+                pending.result().complete(pending.student());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        // Callers still waiting would otherwise block forever
+        PendingInsert pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result().completeExceptionally(
+                new ServiceOverloadedException("Student creation was not written, the service is shutting down"));
+        }
+    }
+
+    record PendingInsert(Student student, CompletableFuture<Student> result, long enqueuedNanos) {
+    }
+}
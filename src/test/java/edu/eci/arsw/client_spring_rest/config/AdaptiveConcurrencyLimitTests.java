@@ -0,0 +1,63 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AdaptiveConcurrencyLimit}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class AdaptiveConcurrencyLimitTests {
+
+	private static final long MILLIS = 1_000_000L;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void rejectsRequestsAboveTheLimit() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(meterRegistry, "reads", 2, 1, 10);
+
+		assertThat(limit.tryAcquire()).isEqualTo(1);
+		assertThat(limit.tryAcquire()).isEqualTo(2);
+		assertThat(limit.tryAcquire()).isEqualTo(-1);
+		limit.release(MILLIS, 2);
+		assertThat(limit.tryAcquire()).isEqualTo(2);
+
+		assertThat(meterRegistry.get("students.concurrency.rejected").tag("group", "reads").counter().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.get("students.concurrency.in-flight").gauge().value()).isEqualTo(2);
+	}
+
+	@Test
+	void growsWhileLatencyHoldsAndShrinksWhenItRises() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(meterRegistry, "reads", 20, 4, 200);
+
+		for (int i = 0; i < 2000; i++) {
+			limit.onSample(10 * MILLIS, limit.getLimit());
+		}
+		int grown = limit.getLimit();
+		assertThat(grown).isGreaterThan(20);
+		assertThat(meterRegistry.get("students.concurrency.limit").gauge().value()).isEqualTo(grown);
+
+		// The database slows down: latency rises far above what the long average learned
+		for (int i = 0; i < 300; i++) {
+			limit.onSample(100 * MILLIS, limit.getLimit());
+		}
+		assertThat(limit.getLimit()).isLessThan(grown / 2);
+	}
+
+	@Test
+	void doesNotGrowWhileTrafficUsesLittleOfTheLimit() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(meterRegistry, "writes", 20, 4, 200);
+
+		for (int i = 0; i < 2000; i++) {
+			limit.onSample(10 * MILLIS, 3);
+		}
+
+		assertThat(limit.getLimit()).isEqualTo(20);
+	}
+}
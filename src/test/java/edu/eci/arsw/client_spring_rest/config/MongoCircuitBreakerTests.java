@@ -0,0 +1,127 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import edu.eci.arsw.client_spring_rest.exception.DatabaseUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link MongoCircuitBreaker}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class MongoCircuitBreakerTests {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final AtomicInteger calls = new AtomicInteger();
+	private final MongoCircuitBreaker breaker = new MongoCircuitBreaker(new SimpleMeterRegistry(), 10, 4, 0.5,
+		Duration.ofSeconds(5), clock::get);
+
+	private boolean databaseUp;
+
+	@Test
+	void opensAfterConnectivityFailuresAndFailsFast() {
+		Supplier<String> database = proxy();
+
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(database::get).isInstanceOf(DataAccessResourceFailureException.class);
+		}
+		assertThat(breaker.getState()).isEqualTo(MongoCircuitBreaker.State.OPEN);
+
+		// Rejected without calling the database
+		clock.addAndGet(Duration.ofSeconds(3).toNanos());
+		assertThatThrownBy(database::get).isInstanceOfSatisfying(DatabaseUnavailableException.class,
+			e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+		assertThat(calls).hasValue(4);
+	}
+
+	@Test
+	void closesWhenTheTrialCallSucceeds() {
+		Supplier<String> database = proxy();
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(database::get).isInstanceOf(DataAccessResourceFailureException.class);
+		}
+
+		// The trial call after the open duration fails, the circuit opens again
+		clock.addAndGet(Duration.ofSeconds(5).toNanos());
+		assertThatThrownBy(database::get).isInstanceOf(DataAccessResourceFailureException.class);
+		assertThat(breaker.getState()).isEqualTo(MongoCircuitBreaker.State.OPEN);
+
+		databaseUp = true;
+		clock.addAndGet(Duration.ofSeconds(5).toNanos());
+		assertThat(database.get()).isEqualTo("ok");
+		assertThat(breaker.getState()).isEqualTo(MongoCircuitBreaker.State.CLOSED);
+		assertThat(calls).hasValue(6);
+	}
+
+	@Test
+	void errorsTheDatabaseAnsweredWithDoNotOpenTheCircuit() {
+		Supplier<String> duplicate = proxy(() -> {
+			throw new DuplicateKeyException("duplicate email");
+		});
+
+		for (int i = 0; i < 10; i++) {
+			assertThatThrownBy(duplicate::get).isInstanceOf(DuplicateKeyException.class);
+		}
+		assertThat(breaker.getState()).isEqualTo(MongoCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void streamsCountWhenTheyAreReadNotWhenTheyAreReturned() {
+		Supplier<Stream<String>> cursor = proxy(() -> Stream.of("a", "b").map(student -> {
+			if (!databaseUp) {
+				throw new DataAccessResourceFailureException("Timed out reading the next batch");
+			}
+			return student;
+		}));
+
+		for (int i = 0; i < 4; i++) {
+			Stream<String> students = cursor.get();
+			assertThatThrownBy(students::toList).isInstanceOf(DataAccessResourceFailureException.class);
+			students.close();
+		}
+		assertThat(breaker.getState()).isEqualTo(MongoCircuitBreaker.State.OPEN);
+
+		// The trial call is only settled once its stream was read
+		databaseUp = true;
+		clock.addAndGet(Duration.ofSeconds(5).toNanos());
+		try (Stream<String> students = cursor.get()) {
+			assertThat(breaker.getState()).isEqualTo(MongoCircuitBreaker.State.HALF_OPEN);
+			assertThat(students).containsExactly("a", "b");
+		}
+		assertThat(breaker.getState()).isEqualTo(MongoCircuitBreaker.State.CLOSED);
+	}
+
+	private Supplier<String> proxy() {
+		return proxy(() -> {
+			if (!databaseUp) {
+				throw new DataAccessResourceFailureException("Timed out waiting for a server");
+			}
+			return "ok";
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Supplier<T> proxy(Supplier<T> target) {
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setTarget((Supplier<T>) () -> {
+			calls.incrementAndGet();
+			return target.get();
+		});
+		proxyFactory.setInterfaces(Supplier.class);
+		proxyFactory.addAdvice(breaker);
+		return (Supplier<T>) proxyFactory.getProxy();
+	}
+}
@@ -0,0 +1,93 @@
+package edu.eci.arsw.client_spring_rest.config;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SlowQueryDetector} shapes, bounded list and plan analysis.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class SlowQueryDetectorTests {
+
+	private final SlowQueryDetector detector = new SlowQueryDetector(
+		new StaticListableBeanFactory().getBeanProvider(MongoTemplate.class),
+		new StaticListableBeanFactory().getBeanProvider(ReactiveMongoTemplate.class), Duration.ofMillis(100), 2,
+		Duration.ofMinutes(10));
+
+	@AfterEach
+	void close() {
+		detector.close();
+	}
+
+	@Test
+	void groupsExecutionsByShape() {
+		detector.record("db", "find", find("Ana", "2000-01-01"), 150_000_000L);
+		detector.record("db", "find", find("Luis", "1999-05-05"), 300_000_000L);
+
+		List<SlowQuery> slowQueries = detector.getSlowQueries();
+		assertThat(slowQueries).hasSize(1);
+		SlowQuery slowQuery = slowQueries.get(0);
+		assertThat(slowQuery.getCount()).isEqualTo(2);
+		assertThat(slowQuery.getMaxMillis()).isEqualTo(300.0);
+		assertThat(slowQuery.getCollection()).isEqualTo("students");
+		assertThat(slowQuery.getShape())
+			.contains("\"students\"", "\"pattern\": \"?\", \"options\": \"i\"", "\"$gte\": \"?\"", "\"sort\": {\"name\": 1}")
+			.doesNotContain("Ana", "Luis", "lsid");
+	}
+
+	@Test
+	void keepsOnlyTheSlowestShapes() {
+		detector.record("db", "count", BsonDocument.parse("{count: 'students', query: {program: 'A'}}"), 200_000_000L);
+		detector.record("db", "find", BsonDocument.parse("{find: 'students', filter: {email: 'a'}}"), 500_000_000L);
+		detector.record("db", "distinct", BsonDocument.parse("{distinct: 'students', key: 'program'}"), 100_000_000L);
+		detector.record("db", "aggregate", BsonDocument.parse("{aggregate: 'students', pipeline: [{$group: {_id: '$program'}}]}"),
+			400_000_000L);
+
+		assertThat(detector.getSlowQueries()).extracting(SlowQuery::getCommand).containsExactly("find", "aggregate");
+	}
+
+	@Test
+	void flagsCollectionScansAndInMemorySorts() {
+		Document explain = Document.parse("""
+			{queryPlanner: {winningPlan: {queryPlan: {stage: 'SORT', inputStage: {stage: 'COLLSCAN'}}},
+			 rejectedPlans: [{stage: 'FETCH', inputStage: {stage: 'IXSCAN', indexName: 'email_1'}}]}}""");
+
+		SlowQueryDetector.Plan plan = SlowQueryDetector.analyzePlan(explain);
+
+		assertThat(plan.stages()).containsExactly("SORT", "COLLSCAN");
+		assertThat(plan.collectionScan()).isTrue();
+		assertThat(plan.inMemorySort()).isTrue();
+		assertThat(plan.indexes()).isEmpty();
+	}
+
+	@Test
+	void readsPlansOfAggregationParts() {
+		Document explain = Document.parse("""
+			{stages: [{$cursor: {queryPlanner: {winningPlan: {stage: 'FETCH',
+			 inputStage: {stage: 'IXSCAN', indexName: 'birthDate_1'}}}}}, {$sort: {sortKey: {name: 1}}}]}""");
+
+		SlowQueryDetector.Plan plan = SlowQueryDetector.analyzePlan(explain);
+
+		assertThat(plan.stages()).containsExactly("FETCH", "IXSCAN");
+		assertThat(plan.indexes()).containsExactly("birthDate_1");
+		assertThat(plan.collectionScan()).isFalse();
+	}
+
+	private static BsonDocument find(String name, String birthDate) {
+		return BsonDocument.parse("{find: 'students', filter: {name: {$regex: '" + name + "', $options: 'i'},"
+			+ " birthDate: {$gte: {$date: '" + birthDate + "T00:00:00Z'}}}, sort: {name: 1}, limit: 51,"
+			+ " lsid: {id: 'x'}, $db: 'db'}");
+	}
+}
@@ -0,0 +1,84 @@
+package edu.eci.arsw.client_spring_rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.exception.DatabaseUnavailableException;
+import edu.eci.arsw.client_spring_rest.service.StudentImportService;
+import edu.eci.arsw.client_spring_rest.service.StudentReadFallback;
+import edu.eci.arsw.client_spring_rest.service.StudentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for {@link StaleResponseAdvice} on single student reads of {@link StudentController}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StaleResponseAdviceTests {
+
+	private static final StudentResponse STUDENT = new StudentResponse("1", "Ana Perez", "ana@example.com",
+		LocalDate.of(2000, 1, 1), "Systems", null, LocalDateTime.of(2024, 1, 1, 10, 0), 1L);
+	private static final String ETAG = StudentETags.forStudent(STUDENT);
+
+	private final StudentService studentService = mock(StudentService.class);
+	private final StudentReadFallback fallback = new StudentReadFallback(new SimpleMeterRegistry(), true, 100,
+		Duration.ofHours(1));
+	private MockMvc mockMvc;
+	private boolean databaseUp;
+
+	@BeforeEach
+	void setUp() {
+		StudentController controller = new StudentController(studentService, mock(StudentImportService.class),
+			null, null, new ObjectMapper(), 500, Duration.ofSeconds(15));
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new StaleResponseAdvice()).build();
+		when(studentService.getStudentById("1")).thenAnswer(invocation -> fallback.execute("getStudentById", () -> {
+			if (!databaseUp) {
+				throw new DatabaseUnavailableException("Database is unavailable, please retry later", 5);
+			}
+			return STUDENT;
+		}, "1"));
+	}
+
+	@Test
+	void currentReadWithAMatchingETagIsNotModified() throws Exception {
+		databaseUp = true;
+
+		mockMvc.perform(get("/api/students/1").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+			.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void staleReadWithAMatchingETagIsSentInFullAndMarked() throws Exception {
+		databaseUp = true;
+		mockMvc.perform(get("/api/students/1"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, ETAG));
+
+		databaseUp = false;
+		mockMvc.perform(get("/api/students/1").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.ETAG))
+			.andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+			.andExpect(header().string("Warning", containsString("110")))
+			.andExpect(jsonPath("$.data.id").value("1"))
+			.andExpect(jsonPath("$.message").value(containsString("stale")));
+	}
+}
@@ -0,0 +1,105 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.model.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the repository contract against {@link InMemoryStudentRepository}, plus its
+ * concurrent write guarantees.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class InMemoryStudentRepositoryTests extends StudentRepositoryContractTests {
+
+	private final InMemoryStudentRepository repository = new InMemoryStudentRepository(8);
+
+	@Override
+	protected StudentRepository repository() {
+		return repository;
+	}
+
+	/**
+	 * Concurrent inserts of the same email on different lock stripes: exactly one wins.
+	 */
+	@Test
+	void concurrentInsertsKeepEmailUnique() throws Exception {
+		int writers = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(writers);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger rejected = new AtomicInteger();
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < writers; i++) {
+				int writer = i;
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						save("Writer " + writer, "same@example.com", "2000-01-01", "Systems");
+					} catch (DuplicateKeyException e) {
+						rejected.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> result : results) {
+				result.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(rejected).hasValue(writers - 1);
+		assertThat(repository.count()).isEqualTo(1);
+		assertThat(repository.findAllOrderByName()).hasSize(1);
+	}
+
+	/**
+	 * Readers running during updates always see every student exactly once in each index.
+	 */
+	@Test
+	void readsSeeConsistentIndexesDuringWrites() throws Exception {
+		List<Student> students = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			students.add(save("Student " + i, "student" + i + "@example.com", "2000-01-01", "Systems"));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<?> writer = executor.submit(() -> {
+				for (int round = 0; round < 200; round++) {
+					for (Student student : students) {
+						Student current = repository.findById(student.getId()).orElseThrow();
+						current.setName("Student " + round + "-" + student.getEmail());
+						current.setBirthDate(LocalDate.of(2000, 1, 1).plusDays(round));
+						repository.save(current);
+					}
+				}
+				return null;
+			});
+
+			while (!writer.isDone()) {
+				assertThat(repository.findAllOrderByNameAfter(null, null, 100)).hasSize(50);
+				assertThat(repository.findByBirthDateBetween(LocalDate.of(1999, 1, 1), LocalDate.of(2002, 1, 1))).hasSize(50);
+				assertThat(repository.findByProgramAfter("Systems", null, 100)).hasSize(50);
+			}
+			writer.get();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
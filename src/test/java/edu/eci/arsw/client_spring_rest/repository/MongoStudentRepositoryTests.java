@@ -0,0 +1,45 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.config.StudentIndexManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+/**
+ * Runs the repository contract against the MongoDB backed {@link StudentRepository}.
+ * Needs a reachable server, so it only runs when MONGODB_URI is set; it works in its own
+ * database, which is emptied before each test.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+@DataMongoTest(properties = "spring.data.mongodb.database=student_repository_tests")
+@EnabledIfEnvironmentVariable(named = "MONGODB_URI", matches = ".+")
+class MongoStudentRepositoryTests extends StudentRepositoryContractTests {
+
+	@Autowired
+	private StudentRepository repository;
+
+	@Autowired
+	private ObjectProvider<MongoTemplate> mongoTemplate;
+
+	@Autowired
+	private ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate;
+
+	@Override
+	protected StudentRepository repository() {
+		return repository;
+	}
+
+	/**
+	 * The unique email index is part of the contract, create it as the application does.
+	 */
+	@BeforeEach
+	void ensureIndexes() {
+		new StudentIndexManager(mongoTemplate, reactiveMongoTemplate, true).ensureIndexes();
+	}
+}
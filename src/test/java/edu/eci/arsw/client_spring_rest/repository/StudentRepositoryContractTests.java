@@ -0,0 +1,336 @@
+package edu.eci.arsw.client_spring_rest.repository;
+
+import edu.eci.arsw.client_spring_rest.dto.ProgramStats;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Behavioral tests of the {@link StudentRepository} contract used by the service.
+ * Every implementation runs the same suite through a subclass.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+abstract class StudentRepositoryContractTests {
+
+	/**
+	 * The repository under test, emptied before each test.
+	 */
+	protected abstract StudentRepository repository();
+
+	@BeforeEach
+	void clear() {
+		repository().deleteAll();
+	}
+
+	@Test
+	void saveAssignsIdAndVersionAndFindsByIdAndEmail() {
+		Student saved = save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+
+		assertThat(saved.getId()).isNotNull();
+		assertThat(saved.getVersion()).isZero();
+		assertThat(repository().findById(saved.getId())).map(Student::getEmail).contains("ada@example.com");
+		assertThat(repository().findByEmail("ada@example.com")).map(Student::getId).contains(saved.getId());
+		assertThat(repository().existsByEmail("ada@example.com")).isTrue();
+		assertThat(repository().existsByEmail("grace@example.com")).isFalse();
+	}
+
+	@Test
+	void uniqueEmailIsEnforced() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+
+		assertThatThrownBy(() -> save("Another Ada", "ada@example.com", "2001-01-01", "Math"))
+			.isInstanceOf(DuplicateKeyException.class);
+		assertThat(repository().count()).isEqualTo(1);
+	}
+
+	@Test
+	void saveWithStaleVersionFails() {
+		Student saved = save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		Student stale = repository().findById(saved.getId()).orElseThrow();
+
+		saved.setProgram("Math");
+		repository().save(saved);
+
+		stale.setProgram("Physics");
+		assertThatThrownBy(() -> repository().save(stale)).isInstanceOf(OptimisticLockingFailureException.class);
+		assertThat(repository().findById(saved.getId())).map(Student::getProgram).contains("Math");
+	}
+
+	@Test
+	void keysetPagesWalkEveryStudentOnceInIdOrder() {
+		for (int i = 0; i < 7; i++) {
+			save("Student " + i, "student" + i + "@example.com", "2000-01-0" + (i + 1), i % 2 == 0 ? "Systems" : "Math");
+		}
+
+		List<StudentResponse> first = repository().findAllAfter(null, 3);
+		List<StudentResponse> second = repository().findAllAfter(first.get(2).getId(), 3);
+		List<StudentResponse> third = repository().findAllAfter(second.get(2).getId(), 3);
+
+		List<String> ids = Stream.of(first, second, third).flatMap(List::stream).map(StudentResponse::getId).toList();
+		assertThat(ids).hasSize(7).isSorted().doesNotHaveDuplicates();
+
+		List<StudentResponse> systems = repository().findByProgramAfter("Systems", null, 10);
+		assertThat(systems).hasSize(4).extracting(StudentResponse::getProgram).containsOnly("Systems");
+		assertThat(repository().findByProgramAfter("Systems", systems.get(1).getId(), 10))
+			.extracting(StudentResponse::getId)
+			.containsExactly(systems.get(2).getId(), systems.get(3).getId());
+		assertThat(repository().countByProgram("Math")).isEqualTo(3);
+	}
+
+	@Test
+	void findsByNameSubstringIgnoringCase() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		save("Grace Hopper", "grace@example.com", "2000-01-02", "Systems");
+		save("Alan Turing", "alan@example.com", "2000-01-03", "Math");
+
+		assertThat(repository().findByNameContainingIgnoreCaseAfter("LOVE", null, 10))
+			.extracting(StudentResponse::getName).containsExactly("Ada Lovelace");
+		assertThat(repository().findByNameContainingIgnoreCaseAfter("a.", null, 10)).isEmpty();
+		assertThat(repository().findByNameContainingIgnoreCase("r")).hasSize(2);
+	}
+
+	@Test
+	void findsByBirthDateRangeInclusive() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		save("Grace Hopper", "grace@example.com", "2000-06-01", "Systems");
+		save("Alan Turing", "alan@example.com", "2001-01-01", "Math");
+
+		List<StudentResponse> born2000 = repository().findByBirthDateBetweenAfter(
+			LocalDate.parse("2000-01-01"), LocalDate.parse("2000-12-31"), null, 10);
+		assertThat(born2000).extracting(StudentResponse::getName)
+			.containsExactlyInAnyOrder("Ada Lovelace", "Grace Hopper");
+		assertThat(born2000).extracting(StudentResponse::getId).isSorted();
+
+		assertThat(repository().findByBirthDateBetween(LocalDate.parse("2000-06-01"), LocalDate.parse("2001-01-01")))
+			.extracting(Student::getName).containsExactlyInAnyOrder("Grace Hopper", "Alan Turing");
+	}
+
+	@Test
+	void birthDatePagesFollowIdsAcrossDates() {
+		save("Ada Lovelace", "ada@example.com", "2000-03-01", "Systems");
+		save("Grace Hopper", "grace@example.com", "2000-01-01", "Systems");
+		save("Alan Turing", "alan@example.com", "2000-03-01", "Math");
+		save("Edsger Dijkstra", "edsger@example.com", "2000-02-01", "Math");
+		save("Barbara Liskov", "barbara@example.com", "2001-01-01", "Math");
+		LocalDate start = LocalDate.parse("2000-01-01");
+		LocalDate end = LocalDate.parse("2000-12-31");
+
+		List<StudentResponse> first = repository().findByBirthDateBetweenAfter(start, end, null, 3);
+		List<StudentResponse> second = repository().findByBirthDateBetweenAfter(start, end, first.get(2).getId(), 3);
+
+		assertThat(first).hasSize(3);
+		assertThat(second).hasSize(1);
+		assertThat(Stream.concat(first.stream(), second.stream()))
+			.extracting(StudentResponse::getId).isSorted()
+			.hasSize(4).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void namePagesBreakTiesById() {
+		save("Bea", "bea1@example.com", "2000-01-01", "Systems");
+		save("Ann", "ann@example.com", "2000-01-01", "Systems");
+		save("Bea", "bea2@example.com", "2000-01-01", "Systems");
+		save("Cid", "cid@example.com", "2000-01-01", "Systems");
+
+		List<StudentResponse> first = repository().findAllOrderByNameAfter(null, null, 2);
+		StudentResponse last = first.get(1);
+		List<StudentResponse> second = repository().findAllOrderByNameAfter(last.getName(), last.getId(), 2);
+
+		assertThat(first).extracting(StudentResponse::getName).containsExactly("Ann", "Bea");
+		assertThat(second).extracting(StudentResponse::getName).containsExactly("Bea", "Cid");
+		assertThat(second.get(0).getId()).isGreaterThan(last.getId());
+	}
+
+	@Test
+	void findsManyIdsAtOnce() {
+		Student ada = save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		Student grace = save("Grace Hopper", "grace@example.com", "2000-01-02", "Systems");
+
+		assertThat(repository().findByIdIn(List.of(ada.getId(), grace.getId(), "000000000000000000000000")))
+			.extracting(StudentResponse::getId).containsExactlyInAnyOrder(ada.getId(), grace.getId());
+		assertThat(repository().findByIdIn(List.of())).isEmpty();
+	}
+
+	@Test
+	void unorderedInsertReportsDuplicatePositions() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+
+		List<Student> batch = List.of(
+			student("Grace Hopper", "grace@example.com", "2000-01-02", "Systems"),
+			student("Ada Again", "ada@example.com", "2000-01-03", "Systems"),
+			student("Alan Turing", "alan@example.com", "2000-01-04", "Math"),
+			student("Grace Again", "grace@example.com", "2000-01-05", "Math"));
+
+		Set<Integer> duplicates = repository().insertAllUnordered(batch);
+
+		assertThat(duplicates).containsExactlyInAnyOrder(1, 3);
+		assertThat(batch).allSatisfy(student -> assertThat(student.getId()).isNotNull());
+		assertThat(repository().count()).isEqualTo(3);
+	}
+
+	@Test
+	void queryByExampleMatchesTheSetPropertiesOfTheProbe() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		save("Grace Hopper", "grace@example.com", "2000-01-02", "Systems");
+		save("Alan Turing", "alan@example.com", "2000-01-03", "Math");
+
+		Student probe = new Student();
+		probe.setName("a");
+		probe.setProgram("systems");
+		Example<Student> example = Example.of(probe, ExampleMatcher.matching()
+			.withIgnorePaths("createdAt", "updatedAt")
+			.withIgnoreCase("program")
+			.withMatcher("name", match -> match.contains()));
+
+		assertThat(repository().findAll(example, Sort.by("name"))).extracting(Student::getName)
+			.containsExactly("Ada Lovelace", "Grace Hopper");
+		assertThat(repository().count(example)).isEqualTo(2);
+		Student last = repository().findBy(example, query -> query.sortBy(Sort.by("name").descending()).firstValue());
+		assertThat(last.getName()).isEqualTo("Grace Hopper");
+
+		probe.setName("Alan Turing");
+		assertThat(repository().exists(example)).isFalse();
+		assertThat(repository().findOne(Example.of(probe, ExampleMatcher.matchingAny()
+			.withIgnorePaths("createdAt", "updatedAt", "program")))).map(Student::getEmail).contains("alan@example.com");
+	}
+
+	@Test
+	void unorderedInsertStartsVersionsAtZero() {
+		List<Student> batch = List.of(student("Grace Hopper", "grace@example.com", "2000-01-02", "Systems"));
+
+		repository().insertAllUnordered(batch);
+
+		Student inserted = batch.get(0);
+		assertThat(inserted.getVersion()).isEqualTo(0L);
+		assertThat(repository().findById(inserted.getId()).orElseThrow().getVersion()).isEqualTo(0L);
+		assertThat(repository().updateFields(inserted.getId(), 0L, null, fields("program", "Math"))).isPresent();
+	}
+
+	@Test
+	void updateFieldsChecksVersionAndUpdateTime() {
+		Student saved = save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		LocalDateTime updatedAt = repository().findById(saved.getId()).orElseThrow().getUpdatedAt();
+
+		assertThat(repository().updateFields(saved.getId(), 5L, null, fields("program", "Math"))).isEmpty();
+		assertThat(repository().updateFields(saved.getId(), null, List.of(updatedAt.minusSeconds(1)),
+			fields("program", "Math"))).isEmpty();
+
+		LocalDateTime newUpdatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		Map<String, Object> fields = fields("program", "Math");
+		fields.put("updatedAt", newUpdatedAt);
+		Optional<Student> previous = repository().updateFields(saved.getId(), 0L, List.of(updatedAt), fields);
+
+		assertThat(previous).map(Student::getProgram).contains("Systems");
+		Student updated = repository().findById(saved.getId()).orElseThrow();
+		assertThat(updated.getProgram()).isEqualTo("Math");
+		assertThat(updated.getName()).isEqualTo("Ada Lovelace");
+		assertThat(updated.getVersion()).isEqualTo(1L);
+		assertThat(updated.getUpdatedAt()).isEqualTo(newUpdatedAt);
+		assertThat(repository().findByProgramAfter("Systems", null, 10)).isEmpty();
+		assertThat(repository().findByProgramAfter("Math", null, 10)).hasSize(1);
+	}
+
+	@Test
+	void updateFieldsRejectsAnotherStudentsEmail() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		Student grace = save("Grace Hopper", "grace@example.com", "2000-01-02", "Systems");
+
+		assertThatThrownBy(() -> repository().updateFields(grace.getId(), null, null, fields("email", "ada@example.com")))
+			.isInstanceOf(DuplicateKeyException.class);
+		assertThat(repository().findByEmail("grace@example.com")).isPresent();
+
+		repository().updateFields(grace.getId(), null, null, fields("email", "hopper@example.com"));
+		assertThat(repository().findByEmail("grace@example.com")).isEmpty();
+		assertThat(repository().findByEmail("hopper@example.com")).map(Student::getId).contains(grace.getId());
+	}
+
+	@Test
+	void findAndRemoveReturnsTheDeletedStudent() {
+		Student saved = save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		LocalDateTime updatedAt = repository().findById(saved.getId()).orElseThrow().getUpdatedAt();
+
+		assertThat(repository().findAndRemoveById(saved.getId(), List.of(updatedAt.plusSeconds(1)))).isEmpty();
+		assertThat(repository().findAndRemoveById(saved.getId(), List.of(updatedAt)))
+			.map(Student::getEmail).contains("ada@example.com");
+		assertThat(repository().existsById(saved.getId())).isFalse();
+		assertThat(repository().existsByEmail("ada@example.com")).isFalse();
+		assertThat(repository().findAndRemoveById(saved.getId(), null)).isEmpty();
+	}
+
+	@Test
+	void aggregatesStatisticsPerProgram() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		save("Grace Hopper", "grace@example.com", "2000-01-03", "Systems");
+		save("Alan Turing", "alan@example.com", "1999-05-05", "Math");
+
+		List<ProgramStats> stats = repository().aggregateProgramStats();
+
+		assertThat(stats).extracting(ProgramStats::getProgram).containsExactly("Math", "Systems");
+		ProgramStats systems = stats.get(1);
+		assertThat(systems.getCount()).isEqualTo(2);
+		assertThat(systems.getMinBirthDate()).isEqualTo(LocalDate.parse("2000-01-01"));
+		assertThat(systems.getMaxBirthDate()).isEqualTo(LocalDate.parse("2000-01-03"));
+		assertThat(systems.getAvgBirthDate()).isEqualTo(LocalDate.parse("2000-01-02"));
+	}
+
+	@Test
+	void streamsFilteredStudentsInIdOrder() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		save("Grace Hopper", "grace@example.com", "2001-01-01", "Systems");
+		save("Alan Turing", "alan@example.com", "2000-06-01", "Math");
+
+		try (Stream<StudentResponse> students = repository().streamByFilter(null, null, null)) {
+			assertThat(students.map(StudentResponse::getId).toList()).hasSize(3).isSorted();
+		}
+		try (Stream<StudentResponse> students = repository().streamByFilter("Systems", LocalDate.parse("2000-06-01"), null)) {
+			assertThat(students.map(StudentResponse::getName).collect(Collectors.toList())).containsExactly("Grace Hopper");
+		}
+	}
+
+	@Test
+	void deletesByProgram() {
+		save("Ada Lovelace", "ada@example.com", "2000-01-01", "Systems");
+		save("Grace Hopper", "grace@example.com", "2001-01-01", "Systems");
+		save("Alan Turing", "alan@example.com", "2000-06-01", "Math");
+
+		assertThat(repository().deleteByProgram("Systems")).isEqualTo(2);
+		assertThat(repository().findAll()).extracting(Student::getName).containsExactly("Alan Turing");
+		assertThat(repository().existsByEmail("ada@example.com")).isFalse();
+	}
+
+	protected Student save(String name, String email, String birthDate, String program) {
+		return repository().save(student(name, email, birthDate, program));
+	}
+
+	private static Student student(String name, String email, String birthDate, String program) {
+		return new Student(name, email, LocalDate.parse(birthDate), program);
+	}
+
+	private static Map<String, Object> fields(String property, Object value) {
+		Map<String, Object> fields = new HashMap<>();
+		fields.put(property, value);
+		return fields;
+	}
+}
@@ -0,0 +1,123 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.exception.StudentNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SingleFlight} coalescing.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class SingleFlightTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final StudentCollectionGeneration generation = new StudentCollectionGeneration(new LocalStudentChangeSource(), null);
+	private final SingleFlight singleFlight = new SingleFlight(meterRegistry, generation);
+	private final ExecutorService executor = Executors.newFixedThreadPool(9);
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentIdenticalCallsShareOneExecution() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+		List<Future<Object>> results = new ArrayList<>();
+		Object result = new Object();
+		for (int i = 0; i < 9; i++) {
+			results.add(executor.submit(() -> singleFlight.execute("read", () -> {
+				executions.incrementAndGet();
+				await(release);
+				return result;
+			}, "Systems", null)));
+		}
+		while (coalesced() < 8) {
+			Thread.sleep(1);
+		}
+		release.countDown();
+
+		for (Future<Object> future : results) {
+			assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(result);
+		}
+		assertThat(executions).hasValue(1);
+		assertThat(meterRegistry.get("students.reads.single-flight").tag("outcome", "executed").counter().count())
+			.isEqualTo(1);
+
+		// Nothing is kept once the call completed
+		singleFlight.execute("read", executions::incrementAndGet, "Systems", null);
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void waitingCallersGetTheException() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Future<Object> leader = executor.submit(() -> singleFlight.execute("read", () -> {
+			await(release);
+			throw new StudentNotFoundException("Student with ID 1 not found");
+		}, "1"));
+		awaitExecuted();
+		Future<Object> follower = executor.submit(() -> singleFlight.execute("read", () -> "unexpected", "1"));
+		while (coalesced() < 1) {
+			Thread.sleep(1);
+		}
+		release.countDown();
+
+		for (Future<Object> future : List.of(leader, follower)) {
+			assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StudentNotFoundException.class);
+		}
+	}
+
+	@Test
+	void callsAfterAWriteDoNotJoinEarlierReads() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Future<Object> before = executor.submit(() -> singleFlight.execute("read", () -> {
+			await(release);
+			return "before";
+		}, "1"));
+		awaitExecuted();
+
+		generation.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.UPDATED, "1", null));
+		assertThat(singleFlight.execute("read", () -> "after", "1")).isEqualTo("after");
+
+		release.countDown();
+		assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo("before");
+		assertThat(coalesced()).isZero();
+	}
+
+	private void awaitExecuted() throws InterruptedException {
+		while (meterRegistry.find("students.reads.single-flight").tag("outcome", "executed").counter() == null) {
+			Thread.sleep(1);
+		}
+	}
+
+	private double coalesced() {
+		Counter counter = meterRegistry.find("students.reads.single-flight").tag("outcome", "coalesced").counter();
+		return counter != null ? counter.count() : 0;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.dto.StudentSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StudentAutocompleteIndex} lookups across writes and merges.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StudentAutocompleteIndexTests {
+
+	private static final String[] NAME_PARTS = {
+		"Ana", "Andrés", "Mariana", "Juan", "Juana", "Díaz", "Pérez", "Lovelace", "Hernández"
+	};
+
+	private StudentAutocompleteIndex index;
+	private final Map<String, StudentResponse> students = new LinkedHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		index = new StudentAutocompleteIndex(Stream::empty, true, 20);
+		index.build();
+	}
+
+	@Test
+	void matchesNameWordsAndEmailOncePerStudent() {
+		put("1", "José Pérez", "jperez@example.com");
+		put("2", "Ana Josefina", "ana@example.com");
+		put("3", "Pedro Ruiz", "pedro@example.com");
+
+		assertThat(ids("jose")).containsExactly("1", "2");
+		assertThat(ids("pe")).containsExactly("3", "1");
+		assertThat(ids("JPÉ")).containsExactly("1");
+		assertThat(ids("x")).isEmpty();
+	}
+
+	@Test
+	void lookupsMatchFullScanAfterWrites() {
+		Random random = new Random(11);
+		for (int round = 0; round < 20000; round++) {
+			String id = String.format("%05d", random.nextInt(8000));
+			if (random.nextInt(5) == 0) {
+				students.remove(id);
+				index.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.DELETED, id, null));
+			} else {
+				String name = NAME_PARTS[random.nextInt(NAME_PARTS.length)] + " "
+					+ NAME_PARTS[random.nextInt(NAME_PARTS.length)];
+				put(id, name, "user" + random.nextInt(100000) + "@example.com");
+			}
+
+			if (round % 997 == 0) {
+				for (String prefix : List.of("a", "ana", "juan", "díaz", "user1", "user42", "z")) {
+					assertThat(ids(prefix)).as(prefix).isEqualTo(expected(prefix));
+				}
+			}
+		}
+	}
+
+	private List<String> expected(String prefix) {
+		String normalized = StudentNameIndex.normalize(prefix);
+		List<String[]> terms = new ArrayList<>();
+		for (StudentResponse student : students.values()) {
+			String name = StudentNameIndex.normalize(student.getName());
+			terms.add(new String[] {name, student.getId()});
+			for (int i = 0; i < name.length(); i++) {
+				if (name.charAt(i) == ' ') {
+					terms.add(new String[] {name.substring(i + 1), student.getId()});
+				}
+			}
+			terms.add(new String[] {StudentNameIndex.normalize(student.getEmail()), student.getId()});
+		}
+		terms.sort((a, b) -> a[0].equals(b[0]) ? a[1].compareTo(b[1]) : a[0].compareTo(b[0]));
+
+		Set<String> ids = new LinkedHashSet<>();
+		for (String[] term : terms) {
+			if (term[0].startsWith(normalized) && ids.size() < 20) {
+				ids.add(term[1]);
+			}
+		}
+		return new ArrayList<>(ids);
+	}
+
+	private List<String> ids(String prefix) {
+		return index.search(prefix, 20).stream().map(StudentSuggestion::getId).toList();
+	}
+
+	private void put(String id, String name, String email) {
+		StudentResponse student = new StudentResponse(id, name, email, null, null, null, null, null);
+		students.put(id, student);
+		index.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.CREATED, id, student));
+	}
+}
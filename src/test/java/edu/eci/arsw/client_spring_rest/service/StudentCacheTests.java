@@ -0,0 +1,42 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StudentCache}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StudentCacheTests {
+
+	@Test
+	void remoteChangeEvictsTheOldEmailOfAStudentOnlyCachedByEmail() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager(StudentCache.BY_ID, StudentCache.BY_EMAIL);
+		cacheManager.setCacheSpecification("maximumSize=100,expireAfterWrite=10m");
+		StudentCache cache = new StudentCache(cacheManager);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getByEmail("ana@example.com", () -> student(loads.incrementAndGet()));
+		cache.getByEmail("ana@example.com", () -> student(loads.incrementAndGet()));
+		assertThat(loads).hasValue(1);
+
+		// The email changed elsewhere: the change carries the new email only
+		StudentResponse changed = new StudentResponse("1", "Ana", "ana.perez@example.com", null, "Systems",
+			null, null, 1L);
+		cache.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.UPDATED, "1", changed, true));
+
+		cache.getByEmail("ana@example.com", () -> student(loads.incrementAndGet()));
+		assertThat(loads).hasValue(2);
+	}
+
+	private static StudentResponse student(long version) {
+		return new StudentResponse("1", "Ana", "ana@example.com", null, "Systems", null, null, version);
+	}
+}
@@ -0,0 +1,120 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentChange;
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for {@link StudentChangeFeed} with the in-process {@link LocalStudentChangeSource}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StudentChangeFeedTests {
+
+	private final LocalStudentChangeSource source = new LocalStudentChangeSource();
+	private final List<StudentChangeEvent> published = new CopyOnWriteArrayList<>();
+	private final StudentChangeFeed feed = new StudentChangeFeed(source, event -> published.add((StudentChangeEvent) event),
+		true, 3, 100, Duration.ZERO);
+
+	@AfterEach
+	void close() {
+		feed.close();
+	}
+
+	@Test
+	void publishesOnlyChangesNotAppliedHere() {
+		// Written here: the same write read back is not applied again, a later one is
+		feed.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.UPDATED, "1", student("1", 2L)));
+		feed.accept(change("a", StudentChangeEvent.Type.UPDATED, student("1", 2L)));
+		feed.accept(change("b", StudentChangeEvent.Type.UPDATED, student("1", 3L)));
+		// Written elsewhere
+		feed.accept(change("c", StudentChangeEvent.Type.CREATED, student("2", 0L)));
+		feed.accept(change("d", StudentChangeEvent.Type.DELETED, null));
+
+		assertThat(published).extracting(StudentChangeEvent::getType, StudentChangeEvent::getStudentId)
+			.containsExactly(tuple(StudentChangeEvent.Type.UPDATED, "1"), tuple(StudentChangeEvent.Type.CREATED, "2"),
+				tuple(StudentChangeEvent.Type.DELETED, "2"));
+		assertThat(published).allMatch(StudentChangeEvent::isFromChangeStream);
+		assertThat(source.loadResumeToken()).isEqualTo("d");
+	}
+
+	@Test
+	void publishesRemoteChangesWithTheVersionOfALocalWrite() {
+		StudentResponse local = student("1", 2L, LocalDateTime.of(2024, 1, 1, 10, 0));
+		StudentResponse remote = student("1", 2L, LocalDateTime.of(2024, 1, 1, 10, 5));
+		feed.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.UPDATED, "1", local));
+		// Another writer that does not increment the version, before and after the echo
+		feed.accept(change("a", StudentChangeEvent.Type.UPDATED, remote));
+		feed.accept(change("b", StudentChangeEvent.Type.UPDATED, local));
+		feed.accept(change("c", StudentChangeEvent.Type.UPDATED, local));
+		// Without a version every change is new
+		feed.accept(change("d", StudentChangeEvent.Type.UPDATED, student("2", null)));
+		feed.accept(change("e", StudentChangeEvent.Type.UPDATED, student("2", null)));
+
+		assertThat(published).extracting(StudentChangeEvent::getStudentId).containsExactly("1", "1", "2", "2");
+		assertThat(published.get(0).getStudent()).isSameAs(remote);
+	}
+
+	@Test
+	void clientsResumeAfterTheLastChangeTheySaw() throws Exception {
+		feed.accept(change("a", StudentChangeEvent.Type.CREATED, student("1", 0L)));
+		feed.accept(change("b", StudentChangeEvent.Type.CREATED, student("2", 0L)));
+		feed.accept(change("c", StudentChangeEvent.Type.CREATED, student("3", 0L)));
+
+		CompletableFuture<List<StudentChange>> resumed = feed.changes("a").take(3).collectList().toFuture();
+		CompletableFuture<List<StudentChange>> fresh = feed.changes(null).take(1).collectList().toFuture();
+		feed.accept(change("d", StudentChangeEvent.Type.CREATED, student("4", 0L)));
+
+		assertThat(resumed.get(5, TimeUnit.SECONDS)).extracting(StudentChange::getId).containsExactly("b", "c", "d");
+		assertThat(fresh.get(5, TimeUnit.SECONDS)).extracting(StudentChange::getId).containsExactly("d");
+
+		// "a" is no longer kept with a history of 3
+		CompletableFuture<List<StudentChange>> reset = feed.changes("a").take(2).collectList().toFuture();
+		feed.accept(change("e", StudentChangeEvent.Type.DELETED, null));
+		assertThat(reset.get(5, TimeUnit.SECONDS)).extracting(StudentChange::getType)
+			.containsExactly(StudentChange.RESET, "DELETED");
+	}
+
+	@Test
+	void followsLocalWritesFromTheSource() throws Exception {
+		feed.onApplicationReady();
+		CompletableFuture<List<StudentChange>> changes = feed.changes(null).take(1).collectList().toFuture();
+
+		// Changes are only queued once the feed watches the source
+		while (feed.getSession() == 0) {
+			Thread.sleep(10);
+		}
+		StudentChangeEvent created = new StudentChangeEvent(StudentChangeEvent.Type.CREATED, "1", student("1", 0L));
+		feed.onStudentChange(created);
+		source.onStudentChange(created);
+
+		assertThat(changes.get(5, TimeUnit.SECONDS)).extracting(StudentChange::getStudentId).containsExactly("1");
+		assertThat(published).isEmpty();
+	}
+
+	private static StudentChangeSource.Change change(String token, StudentChangeEvent.Type type, StudentResponse student) {
+		return new StudentChangeSource.Change(token, type, student != null ? student.getId() : "2", student);
+	}
+
+	private static StudentResponse student(String id, Long version) {
+		return student(id, version, null);
+	}
+
+	private static StudentResponse student(String id, Long version, LocalDateTime updatedAt) {
+		return new StudentResponse(id, "Ana Perez", "ana" + id + "@example.com", LocalDate.of(2000, 1, 1),
+			"Systems", null, updatedAt, version);
+	}
+}
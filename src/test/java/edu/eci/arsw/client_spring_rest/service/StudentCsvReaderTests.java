@@ -0,0 +1,64 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link StudentCsvReader}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StudentCsvReaderTests {
+
+	@Test
+	void readsQuotedFieldsAcrossLinesAndTracksWhereRecordsStart() throws IOException {
+		StudentCsvReader csv = reader("\uFEFFname,email\r\n"
+			+ "\"Perez, Ana\",ana@example.com\r\n"
+			+ "\r\n"
+			+ "\"Luis \"\"Lucho\"\"\nGomez\",luis@example.com\n"
+			+ "Ma\"ria,\n"
+			+ "last,row");
+
+		assertThat(csv.readRecord()).containsExactly("name", "email");
+		assertThat(csv.readRecord()).containsExactly("Perez, Ana", "ana@example.com");
+		assertThat(csv.getRecordLine()).isEqualTo(2);
+		assertThat(csv.readRecord()).containsExactly("Luis \"Lucho\"\nGomez", "luis@example.com");
+		assertThat(csv.getRecordLine()).isEqualTo(4);
+		assertThat(csv.readRecord()).containsExactly("Ma\"ria", "");
+		assertThat(csv.getRecordLine()).isEqualTo(6);
+		assertThat(csv.readRecord()).containsExactly("last", "row");
+		assertThat(csv.readRecord()).isNull();
+	}
+
+	@Test
+	void failsOnUnterminatedQuotesAndOversizedRows() throws IOException {
+		StudentCsvReader unterminated = reader("name\n\"Ana,ana@example.com\n");
+		unterminated.readRecord();
+		assertThatThrownBy(unterminated::readRecord).isInstanceOf(IOException.class)
+			.hasMessageContaining("line 2");
+
+		assertThatThrownBy(() -> reader("a".repeat(101)).readRecord()).isInstanceOf(IOException.class)
+			.hasMessageContaining("longer than 100 characters");
+	}
+
+	@Test
+	void requiresTheStudentColumnsInTheHeader() throws IOException {
+		assertThat(StudentImportService.columns(List.of("id", "Program", " EMAIL ", "name", "birthdate")))
+			.containsEntry("program", 1).containsEntry("email", 2).containsEntry("name", 3)
+			.containsEntry("birthDate", 4);
+
+		assertThatThrownBy(() -> StudentImportService.columns(List.of("name", "email")))
+			.isInstanceOf(IOException.class).hasMessageContaining("[birthDate, program]");
+	}
+
+	private static StudentCsvReader reader(String content) {
+		return new StudentCsvReader(new StringReader(content), 100);
+	}
+}
@@ -0,0 +1,91 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StudentNameIndex} ranking and paging.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StudentNameIndexTests {
+
+	private static final String[] NAME_PARTS = {
+		"Ana", "Anabel", "Mariana", "Juan", "Juana", "Díaz", "Pérez", "Lovelace", "Hernández", "Ez", "Tez"
+	};
+
+	private StudentNameIndex index;
+	private final Map<String, String> names = new LinkedHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		index = new StudentNameIndex(Stream::empty, true);
+		index.build();
+	}
+
+	@Test
+	void ranksExactThenPrefixThenWordPrefixThenSubstring() {
+		put("1", "Mariana Díaz");
+		put("2", "Ana");
+		put("3", "Juana");
+		put("4", "ANA  Pérez");
+		put("5", "Anabel");
+		put("6", "Juan Anabel");
+
+		assertThat(index.search("Aná", null, null, 10)).containsExactly("2", "5", "4", "6", "3", "1");
+	}
+
+	@Test
+	void pagesMatchFullRankingAfterWrites() {
+		Random random = new Random(7);
+		for (int i = 0; i < 6000; i++) {
+			int parts = 1 + random.nextInt(3);
+			StringBuilder name = new StringBuilder();
+			for (int p = 0; p < parts; p++) {
+				name.append(p == 0 ? "" : " ").append(NAME_PARTS[random.nextInt(NAME_PARTS.length)]);
+			}
+			put(String.format("%05d", i), name.toString());
+		}
+		for (int i = 0; i < 6000; i += 3) {
+			String id = String.format("%05d", i);
+			names.remove(id);
+			index.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.DELETED, id, null));
+		}
+
+		for (String query : List.of("ana", "juan", "ez", "a", "pérez díaz", "lovelace ana", "xyz")) {
+			List<String> expected = names.keySet().stream()
+				.filter(id -> StudentNameIndex.matchQuality(StudentNameIndex.normalize(names.get(id)),
+					StudentNameIndex.normalize(query)) != StudentNameIndex.NO_MATCH)
+				.sorted(Comparator.comparing((String id) -> StudentNameIndex.rankKey(query, names.get(id)))
+					.thenComparing(id -> id))
+				.toList();
+
+			List<String> paged = new ArrayList<>();
+			List<String> page = index.search(query, null, null, 50);
+			while (!page.isEmpty()) {
+				paged.addAll(page);
+				String last = page.get(page.size() - 1);
+				page = index.search(query, StudentNameIndex.rankKey(query, names.get(last)), last, 50);
+			}
+			assertThat(paged).as(query).isEqualTo(expected);
+		}
+	}
+
+	private void put(String id, String name) {
+		names.put(id, name);
+		StudentResponse student = new StudentResponse(id, name, null, null, null, null, null, null);
+		index.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.CREATED, id, student));
+	}
+}
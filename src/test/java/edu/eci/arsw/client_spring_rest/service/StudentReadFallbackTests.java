@@ -0,0 +1,79 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.dto.StudentResponse;
+import edu.eci.arsw.client_spring_rest.exception.DatabaseUnavailableException;
+import edu.eci.arsw.client_spring_rest.exception.StudentNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link StudentReadFallback}.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StudentReadFallbackTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final StudentReadFallback fallback = new StudentReadFallback(meterRegistry, true, 100, Duration.ofHours(1));
+
+	@AfterEach
+	void resetRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void servesTheLastKnownGoodResultWhileTheDatabaseIsUnavailable() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		assertThat(fallback.execute("getStudentById", () -> student("1", 1L), "1").getVersion()).isEqualTo(1L);
+		assertThat(request.getAttribute(StudentReadFallback.STALE_ATTRIBUTE)).isNull();
+
+		assertThat(fallback.execute("getStudentById", unavailable(), "1").getVersion()).isEqualTo(1L);
+		assertThat(request.getAttribute(StudentReadFallback.STALE_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+		assertThat(meterRegistry.get("students.reads.stale").tag("operation", "getStudentById").counter().count())
+			.isEqualTo(1);
+
+		// Never read before, and errors the database answered with, are not hidden
+		assertThatThrownBy(() -> fallback.execute("getStudentById", unavailable(), "2"))
+			.isInstanceOf(DatabaseUnavailableException.class);
+		assertThatThrownBy(() -> fallback.execute("getStudentById", () -> {
+			throw new StudentNotFoundException("Student with ID 1 not found");
+		}, "1")).isInstanceOf(StudentNotFoundException.class);
+	}
+
+	@Test
+	void followsWritesOfRememberedStudents() {
+		fallback.execute("getStudentById", () -> student("1", 1L), "1");
+
+		fallback.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.UPDATED, "1", student("1", 2L)));
+		assertThat(fallback.execute("getStudentById", unavailable(), "1").getVersion()).isEqualTo(2L);
+
+		fallback.onStudentChange(new StudentChangeEvent(StudentChangeEvent.Type.DELETED, "1", student("1", 2L)));
+		assertThatThrownBy(() -> fallback.execute("getStudentById", unavailable(), "1"))
+			.isInstanceOf(DatabaseUnavailableException.class);
+	}
+
+	private static Supplier<StudentResponse> unavailable() {
+		return () -> {
+			throw new DatabaseUnavailableException("Database is unavailable, please retry later", 5);
+		};
+	}
+
+	private static StudentResponse student(String id, Long version) {
+		return new StudentResponse(id, "Ana Perez", "ana" + id + "@example.com", LocalDate.of(2000, 1, 1),
+			"Systems", null, null, version);
+	}
+}
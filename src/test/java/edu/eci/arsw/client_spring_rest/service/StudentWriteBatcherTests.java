@@ -0,0 +1,109 @@
+package edu.eci.arsw.client_spring_rest.service;
+
+import edu.eci.arsw.client_spring_rest.exception.DuplicateEmailException;
+import edu.eci.arsw.client_spring_rest.exception.ServiceOverloadedException;
+import edu.eci.arsw.client_spring_rest.model.Student;
+import edu.eci.arsw.client_spring_rest.repository.InMemoryStudentRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link StudentWriteBatcher} group commit.
+ *
+ * @author Generated
+ * @version 1.0
+ */
+class StudentWriteBatcherTests {
+
+	private final InMemoryStudentRepository repository = new InMemoryStudentRepository(1);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newFixedThreadPool(10);
+	private StudentWriteBatcher batcher;
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+		batcher.close();
+	}
+
+	@Test
+	void concurrentCreationsShareOneBatchWithTheirOwnOutcome() throws Exception {
+		// The linger is long enough that only a full batch can be written
+		batcher = new StudentWriteBatcher(repository, meterRegistry, true, 10, Duration.ofSeconds(30), 100, Duration.ofSeconds(30));
+		repository.insert(student("taken@example.com"));
+
+		List<Future<Student>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			String email = "student" + i + "@example.com";
+			results.add(executor.submit(() -> batcher.insert(student(email))));
+		}
+		results.add(executor.submit(() -> batcher.insert(student("taken@example.com"))));
+		results.add(executor.submit(() -> batcher.insert(student("student0@example.com"))));
+
+		int created = 0;
+		int duplicates = 0;
+		for (Future<Student> result : results) {
+			try {
+				Student student = result.get(5, TimeUnit.SECONDS);
+				assertThat(student.getId()).isNotNull();
+				assertThat(repository.findByEmail(student.getEmail())).map(Student::getId).contains(student.getId());
+				created++;
+			} catch (ExecutionException e) {
+				assertThat(e.getCause()).isInstanceOf(DuplicateEmailException.class);
+				duplicates++;
+			}
+		}
+		assertThat(created).isEqualTo(8);
+		assertThat(duplicates).isEqualTo(2);
+
+		DistributionSummary batchSize = meterRegistry.get("students.create.batch.size").summary();
+		assertThat(batchSize.count()).isEqualTo(1);
+		assertThat(batchSize.totalAmount()).isEqualTo(10);
+		assertThat(meterRegistry.get("students.create.batch.queue-delay").timer().count()).isEqualTo(10);
+	}
+
+	@Test
+	void lingerWritesAPartialBatch() {
+		batcher = new StudentWriteBatcher(repository, meterRegistry, true, 64, Duration.ofMillis(5), 100, Duration.ofSeconds(30));
+
+		Student saved = batcher.insert(student("alone@example.com"));
+
+		assertThat(saved.getVersion()).isZero();
+		assertThat(repository.findById(saved.getId())).map(Student::getVersion).contains(0L);
+		assertThatThrownBy(() -> batcher.insert(student("alone@example.com")))
+			.isInstanceOf(DuplicateEmailException.class)
+			.hasMessageContaining("alone@example.com");
+		assertThat(meterRegistry.get("students.create.batch.size").summary().count()).isEqualTo(2);
+	}
+
+	@Test
+	void waitingCallerGivesUpAfterTheTimeout() {
+		// Disabled: no dispatcher drains the queue, as if its thread had died
+		batcher = new StudentWriteBatcher(repository, meterRegistry, false, 10, Duration.ofMillis(5), 100,
+			Duration.ofMillis(50));
+
+		assertThatThrownBy(() -> batcher.insert(student("late@example.com")))
+			.isInstanceOf(ServiceOverloadedException.class)
+			.hasMessageContaining("not written in time");
+		assertThat(repository.findByEmail("late@example.com")).isEmpty();
+	}
+
+	private static Student student(String email) {
+		return new Student("Ana Perez", email, LocalDate.of(2000, 1, 1), "Systems");
+	}
+}